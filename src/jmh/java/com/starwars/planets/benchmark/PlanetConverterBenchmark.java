@@ -0,0 +1,55 @@
+package com.starwars.planets.benchmark;
+
+import com.starwars.planets.converter.PlanetConverter;
+import com.starwars.planets.dto.PlanetSummary;
+import com.starwars.planets.dto.response.FindPlanetResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlanetConverterBenchmark {
+
+	private static final int UNSYNCED_EVERY = 10;
+
+	@Param({"10", "100", "1000"})
+	private int planets;
+
+	private List<PlanetSummary> planetSummaries;
+
+	// Every tenth planet has no film appearances yet, so the degraded branch is measured too
+	@Setup
+	public void setUp() {
+		final var now = LocalDateTime.now();
+		planetSummaries = IntStream.range(0, planets)
+				.mapToObj(x -> new PlanetSummary(String.valueOf(x), UUID.randomUUID()
+						.toString(), StubStarWarsApiClient.getPlanetName(x), "arid", "desert",
+						x % UNSYNCED_EVERY == 0 ? null : x % 6, now, x % UNSYNCED_EVERY == 0 ? null : now))
+				.collect(Collectors.toUnmodifiableList());
+	}
+
+	@Benchmark
+	public List<FindPlanetResponse> convertSummaries() {
+		return PlanetConverter.convertToFindPlanetResponse(planetSummaries);
+	}
+
+	@Benchmark
+	public void convertSummary(Blackhole blackhole) {
+		planetSummaries.forEach(x -> blackhole.consume(PlanetConverter.convertToFindPlanetResponse(x)));
+	}
+}
@@ -0,0 +1,77 @@
+package com.starwars.planets.benchmark;
+
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.dto.FoundPlanetIntegration;
+import com.starwars.planets.service.StarWarsApiResilience;
+import com.starwars.planets.service.StarWarsIntegration;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StarWarsIntegrationBenchmark {
+
+	private static final int PAGE_SIZE = 10;
+	private static final int PAGES = 6;
+	private static final int EXECUTOR_THREADS = 8;
+
+	@Param({"0", "10", "50"})
+	private long latencyMillis;
+
+	private ExecutorService executor;
+	private StarWarsIntegration starWarsIntegration;
+	private List<String> names;
+
+	@Setup
+	public void setUp() {
+		executor = Executors.newFixedThreadPool(EXECUTOR_THREADS);
+		starWarsIntegration = new StarWarsIntegration(new PlanetProperties() {
+			@Override
+			public Integer getSwApiMaxPages() {
+				return PAGES;
+			}
+		}, new StubStarWarsApiClient(latencyMillis, PAGE_SIZE, PAGES), executor,
+				new StarWarsApiResilience(BulkheadRegistry.ofDefaults(), CircuitBreakerRegistry.ofDefaults(),
+						RetryRegistry.ofDefaults()), new SimpleMeterRegistry());
+		names = IntStream.range(0, PAGE_SIZE * PAGES)
+				.filter(x -> x % 3 == 0)
+				.mapToObj(StubStarWarsApiClient::getPlanetName)
+				.collect(Collectors.toUnmodifiableList());
+	}
+
+	@TearDown
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Benchmark
+	public Optional<FoundPlanetIntegration> findOnePlanetByName() {
+		return starWarsIntegration.fetchOnePlanetByName("planet " + PAGE_SIZE);
+	}
+
+	@Benchmark
+	public Map<String, FoundPlanetIntegration> findPlanetsByNames() {
+		return starWarsIntegration.findPlanetsByNames(names);
+	}
+}
@@ -0,0 +1,73 @@
+package com.starwars.planets.benchmark;
+
+import com.starwars.planets.service.client.StarWarsApiClient;
+import com.starwars.planets.service.client.response.SwClientFindPlanet;
+import com.starwars.planets.service.client.response.SwClientFindPlanetResult;
+import com.starwars.planets.service.client.response.SwClientPlanetPage;
+import org.springframework.http.ResponseEntity;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class StubStarWarsApiClient implements StarWarsApiClient {
+
+	private static final int FILMS_PER_PLANET = 3;
+
+	private final long latencyMillis;
+	private final int pageSize;
+	private final int pages;
+
+	public StubStarWarsApiClient(long latencyMillis, int pageSize, int pages) {
+		this.latencyMillis = latencyMillis;
+		this.pageSize = pageSize;
+		this.pages = pages;
+	}
+
+	@Override
+	public ResponseEntity<SwClientFindPlanet> findPlanetByName(String name) {
+		sleep();
+		final var results = newResults(0, pageSize);
+		results.add(new SwClientFindPlanetResult(name, newFilms()));
+		return ResponseEntity.ok(new SwClientFindPlanet(results.size(), results));
+	}
+
+	@Override
+	public ResponseEntity<SwClientPlanetPage> findPlanetsPage(Integer page) {
+		sleep();
+		final var next = page < pages ? "https://swapi.dev/api/planets/?page=" + (page + 1) : null;
+		return ResponseEntity.ok(new SwClientPlanetPage(pageSize * pages, next, newResults((page - 1) * pageSize,
+				pageSize)));
+	}
+
+	public static String getPlanetName(int index) {
+		return "Planet " + index;
+	}
+
+	private Set<SwClientFindPlanetResult> newResults(int from, int size) {
+		return IntStream.range(from, from + size)
+				.mapToObj(x -> new SwClientFindPlanetResult(getPlanetName(x), newFilms()))
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	private Set<String> newFilms() {
+		return IntStream.rangeClosed(1, FILMS_PER_PLANET)
+				.mapToObj(x -> "https://swapi.dev/api/films/" + x + "/")
+				.collect(Collectors.toUnmodifiableSet());
+	}
+
+	private void sleep() {
+		if (latencyMillis <= 0) {
+			return;
+		}
+
+		try {
+			TimeUnit.MILLISECONDS.sleep(latencyMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread()
+					.interrupt();
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package com.starwars.planets.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.starwars.planets.service.client.response.SwClientFindPlanet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SwClientDeserializationBenchmark {
+
+	@Param({"1", "10", "60"})
+	private int results;
+
+	private ObjectReader reader;
+	private byte[] content;
+
+	@Setup
+	public void setUp() throws IOException {
+		final var objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		reader = objectMapper.readerFor(SwClientFindPlanet.class);
+		content = objectMapper.writeValueAsBytes(new StubStarWarsApiClient(0, results, 1).findPlanetsPage(1)
+				.getBody());
+	}
+
+	@Benchmark
+	public SwClientFindPlanet deserializeFindPlanet() throws IOException {
+		return reader.readValue(content);
+	}
+}
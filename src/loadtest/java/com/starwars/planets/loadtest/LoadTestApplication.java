@@ -0,0 +1,16 @@
+package com.starwars.planets.loadtest;
+
+import com.starwars.planets.Application;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+public class LoadTestApplication {
+
+	public static final String LOAD_TEST_PROFILE = "loadtest";
+
+	public static void main(String[] args) {
+		final var context = new SpringApplicationBuilder(Application.class).profiles(LOAD_TEST_PROFILE)
+				.run(args);
+		System.exit(SpringApplication.exit(context));
+	}
+}
@@ -0,0 +1,56 @@
+package com.starwars.planets.loadtest;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Component
+@Profile(LoadTestApplication.LOAD_TEST_PROFILE)
+public class LoadTestProperties {
+
+	@Value("${loadtest.swapi.port}")
+	private Integer swApiPort;
+
+	@Value("${loadtest.swapi.latency}")
+	private Duration swApiLatency;
+
+	@Value("${loadtest.swapi.error-rate}")
+	private Double swApiErrorRate;
+
+	@Value("${loadtest.swapi.planets}")
+	private Integer swApiPlanets;
+
+	@Value("${loadtest.seed-collection}")
+	private String seedCollection;
+
+	@Value("${loadtest.seed-planets}")
+	private Integer seedPlanets;
+
+	@Value("${loadtest.concurrency}")
+	private Integer concurrency;
+
+	@Value("${loadtest.warm-up}")
+	private Duration warmUp;
+
+	@Value("${loadtest.duration}")
+	private Duration duration;
+
+	@Value("${loadtest.mix.create}")
+	private Integer createWeight;
+
+	@Value("${loadtest.mix.find-by-id}")
+	private Integer findByIdWeight;
+
+	@Value("${loadtest.mix.find-by-name}")
+	private Integer findByNameWeight;
+
+	@Value("${loadtest.mix.find-all}")
+	private Integer findAllWeight;
+
+	@Value("${loadtest.mix.delete}")
+	private Integer deleteWeight;
+}
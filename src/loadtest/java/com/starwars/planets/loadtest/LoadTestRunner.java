@@ -0,0 +1,319 @@
+package com.starwars.planets.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.dto.BulkOperationStatus;
+import com.starwars.planets.dto.request.CreatePlanetRequest;
+import com.starwars.planets.dto.response.BulkPlanetResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+@Component
+@Log4j2
+@Profile(LoadTestApplication.LOAD_TEST_PROFILE)
+public class LoadTestRunner implements ApplicationRunner {
+
+	private static final String PLANETS_PATH = "/api/v1/star-wars/planets";
+	private static final String BULK_PATH = "/bulk";
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+	private static final Duration SHUTDOWN_TIMEOUT = Duration.ofMinutes(1);
+	private static final int FIND_ALL_PAGE_SIZE = 100;
+
+	private final LoadTestProperties properties;
+	private final PlanetProperties planetProperties;
+	private final ObjectMapper objectMapper;
+	private final Environment environment;
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+	private final List<CreatedPlanet> planets = new ArrayList<>();
+	private URI planetsUri;
+
+	public LoadTestRunner(
+			LoadTestProperties properties, PlanetProperties planetProperties, ObjectMapper objectMapper,
+			Environment environment) {
+		this.properties = properties;
+		this.planetProperties = planetProperties;
+		this.objectMapper = objectMapper;
+		this.environment = environment;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) throws InterruptedException {
+		planetsUri = URI.create("http://localhost:" + environment.getProperty("local.server.port") + PLANETS_PATH);
+		final var operations = getWeightedOperations();
+
+		seedPlanets();
+
+		log.info("Warming up with {} workers for {}", properties.getConcurrency(), properties.getWarmUp());
+		drive(operations, properties.getWarmUp());
+
+		log.info("Running with {} workers for {}", properties.getConcurrency(), properties.getDuration());
+		final var stats = drive(operations, properties.getDuration());
+
+		final var total = new OperationStats();
+		log.info("Load test results");
+		stats.forEach((operation, operationStats) -> {
+			log.info(operationStats.report(operation.name(), properties.getDuration()));
+			total.merge(operationStats);
+		});
+		log.info(total.report("TOTAL", properties.getDuration()));
+	}
+
+	private Map<Operation, OperationStats> drive(List<Operation> operations, Duration duration)
+			throws InterruptedException {
+		final var stats = new EnumMap<Operation, OperationStats>(Operation.class);
+		for (final var operation : Operation.values()) {
+			stats.put(operation, new OperationStats());
+		}
+
+		final var deadline = System.nanoTime() + duration.toNanos();
+		final var executor = Executors.newFixedThreadPool(properties.getConcurrency());
+		for (int i = 0; i < properties.getConcurrency(); i++) {
+			executor.execute(() -> {
+				while (System.nanoTime() < deadline) {
+					final var operation = operations.get(ThreadLocalRandom.current()
+							.nextInt(operations.size()));
+					final var start = System.nanoTime();
+					final var failed = execute(operation);
+					stats.get(operation)
+							.record(System.nanoTime() - start, failed);
+				}
+			});
+		}
+
+		executor.shutdown();
+		if (!executor.awaitTermination(duration.plus(SHUTDOWN_TIMEOUT)
+				.toMillis(), TimeUnit.MILLISECONDS)) {
+			executor.shutdownNow();
+		}
+		return stats;
+	}
+
+	private boolean execute(Operation operation) {
+		try {
+			final var status = switch (operation) {
+				case CREATE -> createPlanet(newRandomPlanet());
+				case FIND_BY_ID -> getRandomPlanet().map(x -> send(newRequest(planetsUri + "/" + x.id()).GET()))
+						.orElse(HttpStatus.NOT_FOUND.value());
+				case FIND_BY_NAME -> getRandomPlanet().map(
+						x -> send(newRequest(planetsUri + "?name=" + URLEncoder.encode(x.name(), StandardCharsets.UTF_8))
+								.GET()))
+						.orElse(HttpStatus.NOT_FOUND.value());
+				case FIND_ALL -> send(newRequest(planetsUri + "?size=" + FIND_ALL_PAGE_SIZE).GET());
+				case DELETE -> removeRandomPlanet().map(x -> send(newRequest(planetsUri + "/" + x.id()).DELETE()))
+						.orElse(HttpStatus.NOT_FOUND.value());
+			};
+			return HttpStatus.valueOf(status)
+					.is5xxServerError();
+		} catch (UncheckedIOException e) {
+			log.debug("Request failed", e);
+			return true;
+		}
+	}
+
+	private void seedPlanets() {
+		final var seedPlanets = new ArrayList<>(readSeedCollection());
+		for (int i = 0; i < properties.getSeedPlanets(); i++) {
+			seedPlanets.add(newRandomPlanet());
+		}
+
+		log.info("Seeding {} planets", seedPlanets.size());
+		final var batchSize = planetProperties.getBulkMaxSize();
+		for (int i = 0; i < seedPlanets.size(); i += batchSize) {
+			createPlanets(seedPlanets.subList(i, Math.min(i + batchSize, seedPlanets.size())));
+		}
+		log.info("Seeded {} planets", planets.size());
+	}
+
+	private void createPlanets(List<CreatePlanetRequest> batch) {
+		final HttpResponse<String> response;
+		try {
+			response = sendForResponse(newRequest(planetsUri + BULK_PATH).header(HttpHeaders.CONTENT_TYPE,
+							MediaType.APPLICATION_JSON_VALUE)
+					.POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(batch))));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		if (response.statusCode() != HttpStatus.OK.value()) {
+			log.warn("Seeding {} planets failed with status {}", batch.size(), response.statusCode());
+			return;
+		}
+
+		try {
+			for (final var result : objectMapper.readValue(response.body(), BulkPlanetResponse[].class)) {
+				if (result.getStatus() == BulkOperationStatus.CREATED) {
+					synchronized (planets) {
+						planets.add(new CreatedPlanet(result.getId(), batch.get(result.getIndex())
+								.getName()));
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private List<CreatePlanetRequest> readSeedCollection() {
+		final var collection = Path.of(properties.getSeedCollection());
+		if (!Files.exists(collection)) {
+			log.warn("Seed collection [{}] not found, seeding only random planets", collection);
+			return List.of();
+		}
+
+		try {
+			final var items = objectMapper.readTree(collection.toFile())
+					.path("item");
+			return StreamSupport.stream(items.spliterator(), false)
+					.map(x -> x.path("request"))
+					.filter(x -> "POST".equals(x.path("method")
+							.asText()))
+					.map(x -> x.path("body")
+							.path("raw")
+							.asText())
+					.filter(x -> !x.isBlank())
+					.map(this::readCreatePlanetRequest)
+					.flatMap(Optional::stream)
+					.toList();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private Optional<CreatePlanetRequest> readCreatePlanetRequest(String content) {
+		try {
+			return Optional.of(objectMapper.readValue(content, CreatePlanetRequest.class))
+					.filter(x -> x.getName() != null);
+		} catch (IOException e) {
+			log.warn("Ignoring seed request body [{}]", content);
+			return Optional.empty();
+		}
+	}
+
+	private int createPlanet(CreatePlanetRequest planet) {
+		final HttpResponse<String> response;
+		try {
+			response = sendForResponse(newRequest(planetsUri.toString()).header(HttpHeaders.CONTENT_TYPE,
+							MediaType.APPLICATION_JSON_VALUE)
+					.POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(planet))));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		if (response.statusCode() == HttpStatus.CREATED.value()) {
+			final var id = readId(response.body());
+			synchronized (planets) {
+				planets.add(new CreatedPlanet(id, planet.getName()));
+			}
+		}
+		return response.statusCode();
+	}
+
+	private String readId(String body) {
+		try {
+			return objectMapper.readTree(body)
+					.path("id")
+					.asText();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private Optional<CreatedPlanet> getRandomPlanet() {
+		synchronized (planets) {
+			return planets.isEmpty() ? Optional.empty() : Optional.of(planets.get(ThreadLocalRandom.current()
+					.nextInt(planets.size())));
+		}
+	}
+
+	private Optional<CreatedPlanet> removeRandomPlanet() {
+		synchronized (planets) {
+			if (planets.isEmpty()) {
+				return Optional.empty();
+			}
+
+			Collections.swap(planets, ThreadLocalRandom.current()
+					.nextInt(planets.size()), planets.size() - 1);
+			return Optional.of(planets.remove(planets.size() - 1));
+		}
+	}
+
+	private CreatePlanetRequest newRandomPlanet() {
+		return new CreatePlanetRequest("Load Planet " + UUID.randomUUID(), "desert", "arid");
+	}
+
+	private HttpRequest.Builder newRequest(String uri) {
+		return HttpRequest.newBuilder(URI.create(uri))
+				.timeout(REQUEST_TIMEOUT);
+	}
+
+	private int send(HttpRequest.Builder request) {
+		return sendForResponse(request).statusCode();
+	}
+
+	private HttpResponse<String> sendForResponse(HttpRequest.Builder request) {
+		try {
+			return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread()
+					.interrupt();
+			throw new UncheckedIOException(new IOException("Request interrupted", e));
+		}
+	}
+
+	private List<Operation> getWeightedOperations() {
+		final var operations = new ArrayList<Operation>();
+		addOperation(operations, Operation.CREATE, properties.getCreateWeight());
+		addOperation(operations, Operation.FIND_BY_ID, properties.getFindByIdWeight());
+		addOperation(operations, Operation.FIND_BY_NAME, properties.getFindByNameWeight());
+		addOperation(operations, Operation.FIND_ALL, properties.getFindAllWeight());
+		addOperation(operations, Operation.DELETE, properties.getDeleteWeight());
+
+		if (operations.isEmpty()) {
+			throw new IllegalArgumentException("At least one operation of the request mix must have a positive weight");
+		}
+		return List.copyOf(operations);
+	}
+
+	private void addOperation(List<Operation> operations, Operation operation, int weight) {
+		operations.addAll(Collections.nCopies(Math.max(weight, 0), operation));
+	}
+
+	private enum Operation {
+		CREATE, FIND_BY_ID, FIND_BY_NAME, FIND_ALL, DELETE
+	}
+
+	private record CreatedPlanet(String id, String name) {
+	}
+}
@@ -0,0 +1,58 @@
+package com.starwars.planets.loadtest;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Log4j2
+@Profile(LoadTestApplication.LOAD_TEST_PROFILE)
+public class MongoStandIn implements BeanPostProcessor, DisposableBean {
+
+	private static final String HOST = "localhost";
+
+	private final Integer port;
+	private MongoServer mongoServer;
+
+	public MongoStandIn(
+			@Value("${loadtest.mongo.port}")
+					Integer port) {
+		this.port = port;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof MongoProperties mongoProperties) {
+			start();
+			mongoProperties.setHost(null);
+			mongoProperties.setPort(null);
+			mongoProperties.setUsername(null);
+			mongoProperties.setPassword(null);
+			mongoProperties.setAuthenticationDatabase(null);
+			mongoProperties.setUri(String.format("mongodb://%s:%d", HOST, port));
+		}
+		return bean;
+	}
+
+	@Override
+	public void destroy() {
+		if (mongoServer != null) {
+			log.info("Stopping Mongo stand-in");
+			mongoServer.shutdownNow();
+		}
+	}
+
+	private synchronized void start() {
+		if (mongoServer == null) {
+			log.info("Starting in-memory Mongo stand-in on port {}", port);
+			mongoServer = new MongoServer(new MemoryBackend());
+			mongoServer.bind(HOST, port);
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package com.starwars.planets.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OperationStats {
+
+	private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+	private final LongAdder errors = new LongAdder();
+
+	public void record(long latencyNanos, boolean failed) {
+		latencies.add(latencyNanos);
+		if (failed) {
+			errors.increment();
+		}
+	}
+
+	public String report(String operation, Duration duration) {
+		final var sortedLatencies = latencies.stream()
+				.mapToLong(Long::longValue)
+				.sorted()
+				.toArray();
+		final var throughput = sortedLatencies.length * 1000.0 / Math.max(duration.toMillis(), 1);
+
+		return String.format("%-14s requests=%-8d errors=%-6d throughput=%8.1f req/s p50=%6.1f ms p90=%6.1f ms "
+						+ "p99=%6.1f ms max=%6.1f ms", operation, sortedLatencies.length, errors.sum(), throughput,
+				percentile(sortedLatencies, 50), percentile(sortedLatencies, 90), percentile(sortedLatencies, 99),
+				percentile(sortedLatencies, 100));
+	}
+
+	public void merge(OperationStats stats) {
+		latencies.addAll(stats.latencies);
+		errors.add(stats.errors.sum());
+	}
+
+	private double percentile(long[] sortedLatencies, int percentile) {
+		if (sortedLatencies.length == 0) {
+			return 0;
+		}
+
+		final var index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+		return sortedLatencies[Math.max(index, 0)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
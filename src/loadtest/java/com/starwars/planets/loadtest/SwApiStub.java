@@ -0,0 +1,124 @@
+package com.starwars.planets.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starwars.planets.service.client.response.SwClientFindPlanet;
+import com.starwars.planets.service.client.response.SwClientFindPlanetResult;
+import com.starwars.planets.service.client.response.SwClientPlanetPage;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Component
+@Log4j2
+@Profile(LoadTestApplication.LOAD_TEST_PROFILE)
+public class SwApiStub {
+
+	private static final String ROOT_PATH = "/";
+	private static final String PLANETS_PATH = "/api/planets/";
+	private static final int PAGE_SIZE = 10;
+	private static final int MAX_FILMS = 6;
+	private static final int STOP_DELAY_SECONDS = 0;
+
+	private final LoadTestProperties properties;
+	private final ObjectMapper objectMapper;
+	private HttpServer server;
+	private ExecutorService executor;
+
+	public SwApiStub(LoadTestProperties properties, ObjectMapper objectMapper) {
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+	}
+
+	@PostConstruct
+	public void start() throws IOException {
+		log.info("Starting SW API stub on port {} with {} latency and {} error rate", properties.getSwApiPort(),
+				properties.getSwApiLatency(), properties.getSwApiErrorRate());
+		executor = Executors.newCachedThreadPool();
+		server = HttpServer.create(new InetSocketAddress(properties.getSwApiPort()), 0);
+		server.createContext(ROOT_PATH, this::handle);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	@PreDestroy
+	public void stop() {
+		log.info("Stopping SW API stub");
+		server.stop(STOP_DELAY_SECONDS);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			TimeUnit.MILLISECONDS.sleep(properties.getSwApiLatency()
+					.toMillis());
+
+			if (ThreadLocalRandom.current()
+					.nextDouble() < properties.getSwApiErrorRate()) {
+				exchange.sendResponseHeaders(HttpStatus.SERVICE_UNAVAILABLE.value(), -1);
+				return;
+			}
+
+			final var queryParams = UriComponentsBuilder.fromUri(exchange.getRequestURI())
+					.build()
+					.getQueryParams();
+			final var body = Optional.ofNullable(queryParams.getFirst("search"))
+					.map(x -> URLDecoder.decode(x, StandardCharsets.UTF_8))
+					.<Object>map(this::findPlanet)
+					.orElseGet(() -> findPlanetsPage(Optional.ofNullable(queryParams.getFirst("page"))
+							.map(Integer::valueOf)
+							.orElse(1)));
+
+			final var content = objectMapper.writeValueAsBytes(body);
+			exchange.getResponseHeaders()
+					.add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(HttpStatus.OK.value(), content.length);
+			exchange.getResponseBody()
+					.write(content);
+		} catch (InterruptedException e) {
+			Thread.currentThread()
+					.interrupt();
+		}
+	}
+
+	private SwClientFindPlanet findPlanet(String name) {
+		return new SwClientFindPlanet(1, Set.of(newResult(name)));
+	}
+
+	private SwClientPlanetPage findPlanetsPage(int page) {
+		final var count = properties.getSwApiPlanets();
+		final var from = (page - 1) * PAGE_SIZE;
+		final var to = Math.min(from + PAGE_SIZE, count);
+		final var next = to < count ? "http://localhost:" + properties.getSwApiPort() + PLANETS_PATH + "?page=" + (
+				page + 1) : null;
+		final var results = IntStream.range(from, to)
+				.mapToObj(x -> newResult("Planet " + x))
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+		return new SwClientPlanetPage(count, next, results);
+	}
+
+	private SwClientFindPlanetResult newResult(String name) {
+		return new SwClientFindPlanetResult(name, IntStream.range(0, Math.abs(name.hashCode() % MAX_FILMS))
+				.mapToObj(x -> "http://localhost/api/films/" + x + "/")
+				.collect(Collectors.toUnmodifiableSet()));
+	}
+}
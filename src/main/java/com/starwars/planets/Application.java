@@ -5,12 +5,14 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.web.servlet.ServletComponentScan;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ServletComponentScan(
 		basePackages = { "com.starwars.planets" })
 @EnableFeignClients
 @EnableCaching
+@EnableScheduling
 public class Application {
 
 	public static void main(String[] args) {
@@ -3,6 +3,10 @@ package com.starwars.planets;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
 
 @Getter
 @Component
@@ -10,4 +14,97 @@ public class PlanetProperties {
 
 	@Value("${info.app.name}")
 	private String applicationName;
+
+	@Value("${sw.api.max-pages}")
+	private Integer swApiMaxPages;
+
+	@Value("${sw.api.cache.maximum-size}")
+	private Long swCacheMaximumSize;
+
+	@Value("${sw.api.cache.expire-after-write}")
+	private Duration swCacheExpireAfterWrite;
+
+	@Value("${sw.api.cache.negative-expire-after-write}")
+	private Duration swCacheNegativeExpireAfterWrite;
+
+	@Value("${sw.api.cache.refresh-after-write}")
+	private Duration swCacheRefreshAfterWrite;
+
+	@Value("${sw.api.reactive.max-connections}")
+	private Integer swApiReactiveMaxConnections;
+
+	@Value("${sw.api.reactive.pending-acquire-max-count}")
+	private Integer swApiReactivePendingAcquireMaxCount;
+
+	@Value("${sw.api.client.max-idle-connections}")
+	private Integer swApiClientMaxIdleConnections;
+
+	@Value("${sw.api.client.keep-alive}")
+	private Duration swApiClientKeepAlive;
+
+	@Value("${sw.api.client.connect-timeout}")
+	private Duration swApiClientConnectTimeout;
+
+	@Value("${sw.api.client.read-timeout}")
+	private Duration swApiClientReadTimeout;
+
+	@Value("${sw.api.catalog.snapshot-path}")
+	private Path swApiCatalogSnapshotPath;
+
+	@Value("${planets.enrichment.executor.core-size}")
+	private Integer enrichmentExecutorCoreSize;
+
+	@Value("${planets.enrichment.executor.max-size}")
+	private Integer enrichmentExecutorMaxSize;
+
+	@Value("${planets.enrichment.executor.queue-capacity}")
+	private Integer enrichmentExecutorQueueCapacity;
+
+	@Value("${planets.enrichment.executor.virtual-threads}")
+	private Boolean enrichmentExecutorVirtualThreads;
+
+	@Value("${planets.page.default-size}")
+	private Integer pageDefaultSize;
+
+	@Value("${planets.page.max-size}")
+	private Integer pageMaxSize;
+
+	@Value("${planets.response-cache.maximum-size}")
+	private DataSize responseCacheMaximumSize;
+
+	@Value("${planets.response-cache.gzip-min-size}")
+	private DataSize responseCacheGzipMinSize;
+
+	@Value("${planets.bulk.max-size}")
+	private Integer bulkMaxSize;
+
+	@Value("${planets.export.window-size}")
+	private Integer exportWindowSize;
+
+	@Value("${planets.export.timeout}")
+	private Duration exportTimeout;
+
+	@Value("${planets.export.executor.size}")
+	private Integer exportExecutorSize;
+
+	@Value("${planets.export.executor.queue-capacity}")
+	private Integer exportExecutorQueueCapacity;
+
+	@Value("${planets.film-appearances.stale-after}")
+	private Duration filmAppearancesStaleAfter;
+
+	@Value("${planets.film-appearances.refresh-batch-size}")
+	private Integer filmAppearancesRefreshBatchSize;
+
+	@Value("${planets.normalized-name.backfill-batch-size}")
+	private Integer normalizedNameBackfillBatchSize;
+
+	@Value("${planets.slow-request.threshold}")
+	private Duration slowRequestThreshold;
+
+	@Value("${planets.latency-histogram.window}")
+	private Duration latencyHistogramWindow;
+
+	@Value("${planets.latency-histogram.slices}")
+	private Integer latencyHistogramSlices;
 }
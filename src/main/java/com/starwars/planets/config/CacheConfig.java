@@ -0,0 +1,162 @@
+package com.starwars.planets.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.config.FoundPlanetCodec.Entry;
+import com.starwars.planets.service.StarWarsIntegration;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.starwars.planets.config.FoundPlanetCodec.encode;
+
+@Configuration
+@Log4j2
+public class CacheConfig {
+
+	public static final String SW_FOUND_ONE_PLANET_CACHE = "sw-foundOnePlanet";
+
+	@Bean
+	public CacheManager cacheManager(
+			PlanetProperties properties, ObjectProvider<StarWarsIntegration> starWarsIntegrationProvider,
+			ObjectProvider<SharedCacheStore> sharedCacheStoreProvider) {
+		final var cacheManager = new CaffeineCacheManager();
+
+		// Misses and refreshes are loaded by the cache itself; empty results are stored as NullValue so that
+		// Spring hands them back as Optional.empty()
+		final var loader = new FoundPlanetLoader(starWarsIntegrationProvider, sharedCacheStoreProvider.getIfAvailable(),
+				properties.getSwCacheExpireAfterWrite(), properties.getSwCacheNegativeExpireAfterWrite(),
+				properties.getSwCacheRefreshAfterWrite());
+		cacheManager.registerCustomCache(SW_FOUND_ONE_PLANET_CACHE, Caffeine.newBuilder()
+				.maximumSize(properties.getSwCacheMaximumSize())
+				.expireAfter(new FoundPlanetExpiry(loader.writtenAt, properties.getSwCacheExpireAfterWrite(),
+						properties.getSwCacheNegativeExpireAfterWrite()))
+				.refreshAfterWrite(properties.getSwCacheRefreshAfterWrite())
+				.recordStats()
+				.build(loader));
+
+		return cacheManager;
+	}
+
+	// Misses are looked up in the shared store first so pods share SW API results. Refreshes reuse the shared entry
+	// only when another pod wrote it within the refresh interval, otherwise they call the SW API and write through
+	private static class FoundPlanetLoader implements CacheLoader<Object, Object> {
+
+		// When the value being loaded was written, read by the expiry so that a shared entry is not kept longer
+		// than its time to live
+		private final Map<Object, Instant> writtenAt = new ConcurrentHashMap<>();
+
+		private final ObjectProvider<StarWarsIntegration> starWarsIntegrationProvider;
+		private final SharedCacheStore sharedCacheStore;
+		private final Duration expireAfterWrite;
+		private final Duration negativeExpireAfterWrite;
+		private final Duration refreshAfterWrite;
+
+		FoundPlanetLoader(
+				ObjectProvider<StarWarsIntegration> starWarsIntegrationProvider, SharedCacheStore sharedCacheStore,
+				Duration expireAfterWrite, Duration negativeExpireAfterWrite, Duration refreshAfterWrite) {
+			this.starWarsIntegrationProvider = starWarsIntegrationProvider;
+			this.sharedCacheStore = sharedCacheStore;
+			this.expireAfterWrite = expireAfterWrite;
+			this.negativeExpireAfterWrite = negativeExpireAfterWrite;
+			this.refreshAfterWrite = refreshAfterWrite;
+		}
+
+		@Override
+		public Object load(Object key) {
+			return getShared(key).map(x -> toCacheValue(key, x))
+					.orElseGet(() -> fetch(key));
+		}
+
+		@Override
+		public Object reload(Object key, Object oldValue) {
+			final var refreshedSince = Instant.now()
+					.minus(refreshAfterWrite);
+			return getShared(key).filter(x -> x.writtenAt()
+							.isAfter(refreshedSince))
+					.map(x -> toCacheValue(key, x))
+					.orElseGet(() -> fetch(key));
+		}
+
+		private Optional<Entry> getShared(Object key) {
+			if (sharedCacheStore == null) {
+				return Optional.empty();
+			}
+			try {
+				return sharedCacheStore.get(SW_FOUND_ONE_PLANET_CACHE, (String) key)
+						.map(FoundPlanetCodec::decode);
+			} catch (RuntimeException e) {
+				log.warn("Could not read [{}] from shared cache, calling SW API", key, e);
+				return Optional.empty();
+			}
+		}
+
+		private Object fetch(Object key) {
+			final var entry = new Entry(starWarsIntegrationProvider.getObject()
+					.fetchOnePlanetByName((String) key), Instant.now());
+			if (sharedCacheStore != null) {
+				try {
+					sharedCacheStore.put(SW_FOUND_ONE_PLANET_CACHE, (String) key, encode(entry), entry.foundPlanet()
+							.isPresent() ? expireAfterWrite : negativeExpireAfterWrite);
+				} catch (RuntimeException e) {
+					log.warn("Could not write [{}] to shared cache", key, e);
+				}
+			}
+			return toCacheValue(key, entry);
+		}
+
+		private Object toCacheValue(Object key, Entry entry) {
+			writtenAt.put(key, entry.writtenAt());
+			return entry.foundPlanet()
+					.map(Object.class::cast)
+					.orElse(NullValue.INSTANCE);
+		}
+	}
+
+	private static class FoundPlanetExpiry implements Expiry<Object, Object> {
+
+		private final Map<Object, Instant> writtenAt;
+		private final Duration expireAfterWrite;
+		private final Duration negativeExpireAfterWrite;
+
+		FoundPlanetExpiry(Map<Object, Instant> writtenAt, Duration expireAfterWrite, Duration negativeExpireAfterWrite) {
+			this.writtenAt = writtenAt;
+			this.expireAfterWrite = expireAfterWrite;
+			this.negativeExpireAfterWrite = negativeExpireAfterWrite;
+		}
+
+		// Values taken from the shared store only live for what is left of the shared entry's time to live
+		@Override
+		public long expireAfterCreate(Object key, Object value, long currentTime) {
+			final var timeToLive = value instanceof NullValue ? negativeExpireAfterWrite : expireAfterWrite;
+			final var valueWrittenAt = writtenAt.remove(key);
+			if (valueWrittenAt == null) {
+				return timeToLive.toNanos();
+			}
+			return Math.max(0, timeToLive.minus(Duration.between(valueWrittenAt, Instant.now()))
+					.toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package com.starwars.planets.config;
+
+import com.starwars.planets.PlanetProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@Log4j2
+public class EnrichmentExecutorConfig {
+
+	public static final String ENRICHMENT_EXECUTOR = "enrichmentExecutor";
+
+	private static final String THREAD_NAME_PREFIX = "sw-enrichment-";
+	private static final long KEEP_ALIVE_SECONDS = 60;
+
+	@Bean(ENRICHMENT_EXECUTOR)
+	public ExecutorService enrichmentExecutor(PlanetProperties properties, MeterRegistry meterRegistry) {
+		final var executor = Boolean.TRUE.equals(properties.getEnrichmentExecutorVirtualThreads())
+				? newVirtualThreadExecutor().orElseGet(() -> newThreadPoolExecutor(properties))
+				: newThreadPoolExecutor(properties);
+
+		return ExecutorServiceMetrics.monitor(meterRegistry, executor, ENRICHMENT_EXECUTOR);
+	}
+
+	private ExecutorService newThreadPoolExecutor(PlanetProperties properties) {
+		log.info("Starting enrichment executor with {} to {} threads", properties.getEnrichmentExecutorCoreSize(),
+				properties.getEnrichmentExecutorMaxSize());
+		return new ThreadPoolExecutor(properties.getEnrichmentExecutorCoreSize(),
+				properties.getEnrichmentExecutorMaxSize(), KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(properties.getEnrichmentExecutorQueueCapacity()),
+				new CustomizableThreadFactory(THREAD_NAME_PREFIX), new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	private Optional<ExecutorService> newVirtualThreadExecutor() {
+		try {
+			final var executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+					.invoke(null);
+			log.info("Starting enrichment executor with virtual threads");
+			return Optional.of(executor);
+		} catch (ReflectiveOperationException e) {
+			log.warn("Virtual threads are not available on this JVM, falling back to a thread pool");
+			return Optional.empty();
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.starwars.planets.config;
+
+import com.starwars.planets.PlanetProperties;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@Log4j2
+public class ExportExecutorConfig {
+
+	public static final String EXPORT_EXECUTOR = "exportExecutor";
+
+	private static final String THREAD_NAME_PREFIX = "planets-export-";
+
+	@Bean(EXPORT_EXECUTOR)
+	public ThreadPoolTaskExecutor exportExecutor(PlanetProperties properties) {
+		log.info("Starting export executor with {} threads", properties.getExportExecutorSize());
+		final var executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(properties.getExportExecutorSize());
+		executor.setMaxPoolSize(properties.getExportExecutorSize());
+		executor.setQueueCapacity(properties.getExportExecutorQueueCapacity());
+		executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+		return executor;
+	}
+}
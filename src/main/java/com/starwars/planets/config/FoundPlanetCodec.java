@@ -0,0 +1,60 @@
+package com.starwars.planets.config;
+
+import com.starwars.planets.dto.FoundPlanetIntegration;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Optional;
+
+public class FoundPlanetCodec {
+
+	private static final byte FORMAT_VERSION = 2;
+	private static final byte NOT_FOUND = 0;
+	private static final byte FOUND = 1;
+
+	public static byte[] encode(Entry entry) {
+		final var bytes = new ByteArrayOutputStream(40);
+		try (final var output = new DataOutputStream(bytes)) {
+			output.writeByte(FORMAT_VERSION);
+			output.writeLong(entry.writtenAt()
+					.toEpochMilli());
+			if (entry.foundPlanet()
+					.isEmpty()) {
+				output.writeByte(NOT_FOUND);
+			} else {
+				output.writeByte(FOUND);
+				output.writeUTF(entry.foundPlanet()
+						.get()
+						.name());
+				output.writeInt(entry.foundPlanet()
+						.get()
+						.filmAppearances());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	public static Entry decode(byte[] bytes) {
+		try (final var input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+			final var formatVersion = input.readByte();
+			if (formatVersion != FORMAT_VERSION) {
+				throw new IllegalArgumentException(String.format("Unsupported found planet format %d", formatVersion));
+			}
+			final var writtenAt = Instant.ofEpochMilli(input.readLong());
+			return new Entry(input.readByte() == NOT_FOUND ? Optional.empty() :
+					Optional.of(new FoundPlanetIntegration(input.readUTF(), input.readInt())), writtenAt);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public record Entry(Optional<FoundPlanetIntegration> foundPlanet, Instant writtenAt) {
+	}
+}
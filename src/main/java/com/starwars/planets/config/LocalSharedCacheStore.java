@@ -0,0 +1,38 @@
+package com.starwars.planets.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@ConditionalOnProperty(value = "sw.api.cache.shared.store", havingValue = "local")
+public class LocalSharedCacheStore implements SharedCacheStore {
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	@Override
+	public Optional<byte[]> get(String cacheName, String key) {
+		final var id = cacheName + ":" + key;
+		final var entry = entries.get(id);
+		if (entry == null) {
+			return Optional.empty();
+		}
+		if (entry.expiresAt() - System.nanoTime() <= 0) {
+			entries.remove(id, entry);
+			return Optional.empty();
+		}
+		return Optional.of(entry.value());
+	}
+
+	@Override
+	public void put(String cacheName, String key, byte[] value, Duration timeToLive) {
+		entries.put(cacheName + ":" + key, new Entry(value, System.nanoTime() + timeToLive.toNanos()));
+	}
+
+	private record Entry(byte[] value, long expiresAt) {
+	}
+}
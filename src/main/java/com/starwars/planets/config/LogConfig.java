@@ -1,7 +1,16 @@
 package com.starwars.planets.config;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starwars.planets.PlanetProperties;
 import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.springframework.web.servlet.HandlerMapping;
 
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.FilterConfig;
@@ -12,16 +21,35 @@ import javax.servlet.annotation.WebFilter;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
-@WebFilter
+import static com.starwars.planets.service.PlanetService.ENRICHMENT_STEP;
+import static com.starwars.planets.service.PlanetService.MONGO_STEP;
+
+@WebFilter(asyncSupported = true)
 @Log4j2
 public class LogConfig implements Filter {
 
-	public static final String ANSI_RESET = "\u001B[0m";
-	public static final String ANSI_BLACK = "\u001B[30m";
-	public static final String ANSI_YELLOW_BACKGROUND = "\u001B[43m";
-	public static final String ANSI_RED_BACKGROUND = "\u001B[41m";
-	public static final String ANSI_GREEN_BACKGROUND = "\u001B[42m";
+	public static final String ACCESS_LOGGER = "access";
+	public static final String CORRELATION_ID_HEADER = "X-Correlation-Id";
+	public static final String CORRELATION_ID_KEY = "correlationId";
+
+	private static final Logger accessLog = LogManager.getLogger(ACCESS_LOGGER);
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+	private static final Pattern VALID_CORRELATION_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+	private final PlanetProperties properties;
+	private final RouteLatencyHistogram routeLatencyHistogram;
+
+	public LogConfig(PlanetProperties properties, RouteLatencyHistogram routeLatencyHistogram) {
+		this.properties = properties;
+		this.routeLatencyHistogram = routeLatencyHistogram;
+	}
 
 	@Override
 	public void init(FilterConfig filterConfig) {
@@ -31,25 +59,110 @@ public class LogConfig implements Filter {
 	@Override
 	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
 			throws IOException, ServletException {
-		try {
+		final var httpServletRequest = (HttpServletRequest) request;
+		final var httpServletResponse = (HttpServletResponse) response;
+		final var correlationId = getCorrelationId(httpServletRequest);
+		final var start = System.nanoTime();
 
-			logRequestedURL((HttpServletRequest) request);
+		ThreadContext.put(CORRELATION_ID_KEY, correlationId);
+		RequestTimings.start();
+		httpServletResponse.setHeader(CORRELATION_ID_HEADER, correlationId);
+		var status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+		try {
 			chain.doFilter(request, response);
-			logEndOfRequest((HttpServletResponse) response);
-
+			status = httpServletResponse.getStatus();
 		} catch (IOException | ServletException | RuntimeException ex) {
-			log.error(ANSI_RED_BACKGROUND + ANSI_BLACK + "Finishing request on host with an unexpected error!" + ANSI_RESET, ex);
+			log.error("Finishing request on host with an unexpected error!", ex);
 			throw ex;
+		} finally {
+			final var timings = RequestTimings.stop();
+			if (httpServletRequest.isAsyncStarted()) {
+				httpServletRequest.getAsyncContext()
+						.addListener(new AccessLogListener(correlationId, start, timings));
+			} else {
+				logAccess(httpServletRequest, status, correlationId, System.nanoTime() - start, timings);
+			}
+			ThreadContext.remove(CORRELATION_ID_KEY);
+		}
+	}
+
+	private String getCorrelationId(HttpServletRequest request) {
+		return Optional.ofNullable(request.getHeader(CORRELATION_ID_HEADER))
+				.filter(x -> VALID_CORRELATION_ID.matcher(x)
+						.matches())
+				.orElseGet(() -> UUID.randomUUID()
+						.toString());
+	}
+
+	private void logAccess(
+			HttpServletRequest request, int status, String correlationId, long durationNanos, Map<String, Long> timings) {
+		final var route = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		routeLatencyHistogram.record(route, durationNanos);
+
+		final var slow = durationNanos >= properties.getSlowRequestThreshold()
+				.toNanos();
+		if (slow ? !accessLog.isWarnEnabled() : !accessLog.isInfoEnabled()) {
+			return;
+		}
+
+		final var accessLogEntry = new AccessLogEntry(Instant.now()
+				.toString(), correlationId, request.getMethod(), request.getRequestURI(), route, status,
+				TimeUnit.NANOSECONDS.toMillis(durationNanos), toMillis(timings.get(MONGO_STEP)),
+				toMillis(timings.get(ENRICHMENT_STEP)), slow);
+		try {
+			final var message = objectMapper.writeValueAsString(accessLogEntry);
+			if (slow) {
+				accessLog.warn(message);
+			} else {
+				accessLog.info(message);
+			}
+		} catch (JsonProcessingException e) {
+			log.warn("Could not write access log of request [{}]", correlationId, e);
 		}
 	}
 
-	private void logRequestedURL(HttpServletRequest httpServletRequest) throws IOException {
-		log.info(ANSI_YELLOW_BACKGROUND + ANSI_BLACK + "Requested URL: [{}] {}" + ANSI_RESET, httpServletRequest.getMethod(),
-				httpServletRequest.getRequestURL());
+	private long toMillis(Long durationNanos) {
+		return durationNanos == null ? 0 : TimeUnit.NANOSECONDS.toMillis(durationNanos);
+	}
+
+	// Async requests are only logged once the async processing completes, with the status it ended with; timings
+	// only cover the initial dispatch since steps run on other threads afterwards
+	private class AccessLogListener implements AsyncListener {
+
+		private final String correlationId;
+		private final long start;
+		private final Map<String, Long> timings;
+
+		AccessLogListener(String correlationId, long start, Map<String, Long> timings) {
+			this.correlationId = correlationId;
+			this.start = start;
+			this.timings = timings;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			logAccess((HttpServletRequest) event.getSuppliedRequest(),
+					((HttpServletResponse) event.getSuppliedResponse()).getStatus(), correlationId,
+					System.nanoTime() - start, timings);
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			event.getAsyncContext()
+					.addListener(this);
+		}
 	}
 
-	private void logEndOfRequest(HttpServletResponse response) throws IOException {
-		log.info(ANSI_GREEN_BACKGROUND + ANSI_BLACK + "Finishing request on host with status {}." + ANSI_RESET,
-				response.getStatus());
+	private record AccessLogEntry(
+			String timestamp, String correlationId, String method, String path, String route, int status,
+			long durationMs, long mongoMs, long swApiMs, boolean slow) {
 	}
 }
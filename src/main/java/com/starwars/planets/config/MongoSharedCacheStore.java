@@ -0,0 +1,36 @@
+package com.starwars.planets.config;
+
+import com.starwars.planets.model.SharedCacheEntry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(value = "sw.api.cache.shared.store", havingValue = "mongo")
+public class MongoSharedCacheStore implements SharedCacheStore {
+
+	private final MongoTemplate mongoTemplate;
+
+	public MongoSharedCacheStore(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	// The TTL monitor only runs every minute, so expired entries can still be found for a while
+	@Override
+	public Optional<byte[]> get(String cacheName, String key) {
+		return Optional.ofNullable(mongoTemplate.findById(cacheName + ":" + key, SharedCacheEntry.class))
+				.filter(x -> x.getExpireAt()
+						.isAfter(LocalDateTime.now()))
+				.map(SharedCacheEntry::getValue);
+	}
+
+	@Override
+	public void put(String cacheName, String key, byte[] value, Duration timeToLive) {
+		mongoTemplate.save(new SharedCacheEntry(cacheName + ":" + key, value, LocalDateTime.now()
+				.plus(timeToLive)));
+	}
+}
@@ -0,0 +1,29 @@
+package com.starwars.planets.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public final class RequestTimings {
+
+	private static final ThreadLocal<Map<String, Long>> timings = new ThreadLocal<>();
+
+	private RequestTimings() {
+	}
+
+	public static void start() {
+		timings.set(new HashMap<>());
+	}
+
+	public static void record(String step, long durationNanos) {
+		final var requestTimings = timings.get();
+		if (requestTimings != null) {
+			requestTimings.merge(step, durationNanos, Long::sum);
+		}
+	}
+
+	public static Map<String, Long> stop() {
+		final var requestTimings = timings.get();
+		timings.remove();
+		return requestTimings == null ? Map.of() : requestTimings;
+	}
+}
@@ -0,0 +1,128 @@
+package com.starwars.planets.config;
+
+import com.starwars.planets.PlanetProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+@Component
+@Endpoint(id = "latency")
+public class RouteLatencyHistogram {
+
+	public static final String UNMAPPED_ROUTE = "UNMAPPED";
+
+	private static final long[] BUCKET_BOUNDS_MS = { 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000 };
+	private static final String OVERFLOW_BUCKET = "+Inf";
+
+	private final Map<String, RollingHistogram> histograms = new ConcurrentHashMap<>();
+	private final long sliceNanos;
+	private final int slices;
+	private final LongSupplier nanoTime;
+
+	@Autowired
+	public RouteLatencyHistogram(PlanetProperties properties) {
+		this(properties, System::nanoTime);
+	}
+
+	RouteLatencyHistogram(PlanetProperties properties, LongSupplier nanoTime) {
+		this.slices = properties.getLatencyHistogramSlices();
+		this.sliceNanos = properties.getLatencyHistogramWindow()
+				.toNanos() / slices;
+		this.nanoTime = nanoTime;
+	}
+
+	public void record(String route, long durationNanos) {
+		histograms.computeIfAbsent(route == null ? UNMAPPED_ROUTE : route, x -> new RollingHistogram(slices))
+				.record(nanoTime.getAsLong() / sliceNanos, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+	}
+
+	@ReadOperation
+	public Map<String, RouteLatency> latency() {
+		final var currentSlice = nanoTime.getAsLong() / sliceNanos;
+		final var latency = new TreeMap<String, RouteLatency>();
+		histograms.forEach((route, histogram) -> latency.put(route, histogram.snapshot(currentSlice)));
+		return latency;
+	}
+
+	public record RouteLatency(long count, long p50Ms, long p90Ms, long p99Ms, long maxMs, Map<String, Long> buckets) {
+	}
+
+	private static class RollingHistogram {
+
+		private final long[] sliceIds;
+		private final long[][] counts;
+		private final long[] maxMs;
+
+		RollingHistogram(int slices) {
+			this.sliceIds = new long[slices];
+			this.counts = new long[slices][BUCKET_BOUNDS_MS.length + 1];
+			this.maxMs = new long[slices];
+		}
+
+		synchronized void record(long sliceId, long durationMs) {
+			final var slice = (int) Math.floorMod(sliceId, (long) sliceIds.length);
+			if (sliceIds[slice] != sliceId) {
+				sliceIds[slice] = sliceId;
+				counts[slice] = new long[BUCKET_BOUNDS_MS.length + 1];
+				maxMs[slice] = 0;
+			}
+
+			counts[slice][getBucket(durationMs)]++;
+			maxMs[slice] = Math.max(maxMs[slice], durationMs);
+		}
+
+		synchronized RouteLatency snapshot(long currentSliceId) {
+			final var buckets = new long[BUCKET_BOUNDS_MS.length + 1];
+			var max = 0L;
+			for (int slice = 0; slice < sliceIds.length; slice++) {
+				if (currentSliceId - sliceIds[slice] < sliceIds.length) {
+					for (int bucket = 0; bucket < buckets.length; bucket++) {
+						buckets[bucket] += counts[slice][bucket];
+					}
+					max = Math.max(max, maxMs[slice]);
+				}
+			}
+
+			var count = 0L;
+			final var namedBuckets = new LinkedHashMap<String, Long>();
+			for (int bucket = 0; bucket < buckets.length; bucket++) {
+				count += buckets[bucket];
+				namedBuckets.put(bucket < BUCKET_BOUNDS_MS.length ? String.valueOf(BUCKET_BOUNDS_MS[bucket]) :
+						OVERFLOW_BUCKET, buckets[bucket]);
+			}
+
+			return new RouteLatency(count, getPercentile(buckets, count, 0.5, max),
+					getPercentile(buckets, count, 0.9, max), getPercentile(buckets, count, 0.99, max), max,
+					namedBuckets);
+		}
+
+		private int getBucket(long durationMs) {
+			for (int bucket = 0; bucket < BUCKET_BOUNDS_MS.length; bucket++) {
+				if (durationMs <= BUCKET_BOUNDS_MS[bucket]) {
+					return bucket;
+				}
+			}
+			return BUCKET_BOUNDS_MS.length;
+		}
+
+		private long getPercentile(long[] buckets, long count, double percentile, long max) {
+			final var rank = (long) Math.ceil(percentile * count);
+			var seen = 0L;
+			for (int bucket = 0; bucket < buckets.length; bucket++) {
+				seen += buckets[bucket];
+				if (rank > 0 && seen >= rank) {
+					return bucket < BUCKET_BOUNDS_MS.length ? Math.min(BUCKET_BOUNDS_MS[bucket], max) : max;
+				}
+			}
+			return 0;
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package com.starwars.planets.config;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface SharedCacheStore {
+
+	Optional<byte[]> get(String cacheName, String key);
+
+	void put(String cacheName, String key, byte[] value, Duration timeToLive);
+}
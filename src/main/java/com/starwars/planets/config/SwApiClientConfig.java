@@ -0,0 +1,52 @@
+package com.starwars.planets.config;
+
+import com.starwars.planets.PlanetProperties;
+import feign.Client;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import lombok.extern.log4j.Log4j2;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@Log4j2
+public class SwApiClientConfig {
+
+	public static final String SW_API_CLIENT = "sw-client";
+
+	private static final String POOL_METRIC_PREFIX = "okhttp.pool";
+	private static final String CLIENT_TAG = "client";
+
+	@Bean
+	public ConnectionPool swApiConnectionPool(PlanetProperties properties) {
+		log.info("Starting SW API connection pool with {} idle connections kept alive for {}",
+				properties.getSwApiClientMaxIdleConnections(), properties.getSwApiClientKeepAlive());
+		return new ConnectionPool(properties.getSwApiClientMaxIdleConnections(), properties.getSwApiClientKeepAlive()
+				.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	// The timeouts match the sw-client Feign options, so Feign uses this client as is instead of deriving one per call
+	@Bean
+	public OkHttpClient swApiOkHttpClient(ConnectionPool swApiConnectionPool, PlanetProperties properties) {
+		return new OkHttpClient.Builder().connectionPool(swApiConnectionPool)
+				.connectTimeout(properties.getSwApiClientConnectTimeout())
+				.readTimeout(properties.getSwApiClientReadTimeout())
+				.build();
+	}
+
+	@Bean
+	public Client swApiFeignClient(OkHttpClient swApiOkHttpClient) {
+		return new feign.okhttp.OkHttpClient(swApiOkHttpClient);
+	}
+
+	@Bean
+	public OkHttpConnectionPoolMetrics swApiConnectionPoolMetrics(
+			ConnectionPool swApiConnectionPool, PlanetProperties properties) {
+		return new OkHttpConnectionPoolMetrics(swApiConnectionPool, POOL_METRIC_PREFIX,
+				Tags.of(CLIENT_TAG, SW_API_CLIENT), properties.getSwApiClientMaxIdleConnections());
+	}
+}
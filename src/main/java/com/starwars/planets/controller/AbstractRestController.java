@@ -1,11 +1,14 @@
 package com.starwars.planets.controller;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
 
 import static org.springframework.http.ResponseEntity.created;
+import static org.springframework.web.context.request.RequestContextHolder.currentRequestAttributes;
 import static org.springframework.web.servlet.support.ServletUriComponentsBuilder.fromCurrentRequest;
 
 public abstract class AbstractRestController<T> {
@@ -27,4 +30,17 @@ public abstract class AbstractRestController<T> {
   protected ServletUriComponentsBuilder getCurrentRequestUriBuilder() {
     return fromCurrentRequest();
   }
+
+  protected boolean checkNotModified(String eTag, long lastModified) {
+    ServletRequestAttributes attributes = getCurrentRequestAttributes();
+    return new ServletWebRequest(attributes.getRequest(), attributes.getResponse()).checkNotModified(eTag, lastModified);
+  }
+
+  protected String getCurrentRequestHeader(String name) {
+    return getCurrentRequestAttributes().getRequest().getHeader(name);
+  }
+
+  private ServletRequestAttributes getCurrentRequestAttributes() {
+    return (ServletRequestAttributes) currentRequestAttributes();
+  }
 }
\ No newline at end of file
@@ -1,13 +1,26 @@
 package com.starwars.planets.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.dto.BulkOperationStatus;
+import com.starwars.planets.dto.PlanetSummary;
 import com.starwars.planets.dto.request.CreatePlanetRequest;
+import com.starwars.planets.dto.response.BulkPlanetResponse;
 import com.starwars.planets.dto.response.FindPlanetResponse;
 import com.starwars.planets.model.Planet;
+import com.starwars.planets.model.PlanetCollectionVersion;
 import com.starwars.planets.service.PlanetService;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,12 +30,26 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 import javax.servlet.http.HttpServletResponse;
+import javax.validation.ConstraintViolation;
 import javax.validation.Valid;
+import javax.validation.Validator;
 import javax.validation.constraints.NotNull;
-import java.util.Set;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import static com.starwars.planets.config.ExportExecutorConfig.EXPORT_EXECUTOR;
+import static com.starwars.planets.controller.PlanetResponseCache.GZIP;
+import static com.starwars.planets.controller.PlanetResponseCache.acceptsGzip;
+import static com.starwars.planets.converter.PlanetConverter.convertToBulkPlanetResponse;
 import static com.starwars.planets.converter.PlanetConverter.convertToFindPlanetResponse;
 import static javax.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
 import static javax.servlet.http.HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
@@ -30,12 +57,33 @@ import static javax.servlet.http.HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
 @RestController
 @Log4j2
 @RequestMapping("/api/v1/star-wars/planets")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PlanetController extends AbstractRestController<String> {
 
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+	private static final byte NEW_LINE = '\n';
+	private static final long INITIAL_COLLECTION_VERSION = 0;
+	private static final long UNKNOWN_LAST_MODIFIED = -1;
+	private static final String GZIP_ETAG_SUFFIX = "-" + GZIP;
+	private static final CacheControl CACHE_CONTROL = CacheControl.noCache();
+
 	private final PlanetService planetService;
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+	private final PlanetResponseCache planetResponseCache;
+	private final PlanetProperties properties;
+	private final AsyncTaskExecutor exportExecutor;
 
-	public PlanetController(PlanetService planetService) {
+	public PlanetController(
+			PlanetService planetService, ObjectMapper objectMapper, Validator validator,
+			PlanetResponseCache planetResponseCache, PlanetProperties properties,
+			@Qualifier(EXPORT_EXECUTOR) AsyncTaskExecutor exportExecutor) {
 		this.planetService = planetService;
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+		this.planetResponseCache = planetResponseCache;
+		this.properties = properties;
+		this.exportExecutor = exportExecutor;
 	}
 
 	@ApiOperation(value = "Create Planet")
@@ -47,29 +95,122 @@ public class PlanetController extends AbstractRestController<String> {
 	public ResponseEntity<String> createPlanet(
 			@RequestBody
 			@Valid @NotNull CreatePlanetRequest body) {
-		log.info("Request for create planet: [{}]", body);
+		if (log.isDebugEnabled()) {
+			log.debug("Request for create planet: [{}]", body);
+		}
 
 		final var createdPlanet = planetService.createPlanet(
 				new Planet(body.getName(), body.getClimate(), body.getTerrain()));
 
-		log.info("Planet create with success!");
+		log.debug("Planet create with success!");
 		return newCreatedResponse(createdPlanet.getUuid());
 	}
 
-	@ApiOperation(value = "Find Planets")
+	@ApiOperation(value = "Create Planets in bulk")
+	@ApiResponses(value = { @ApiResponse(code = HttpServletResponse.SC_OK, message = "Result of each planet"),
+			@ApiResponse(code = SC_BAD_REQUEST, message = "Too many planets"),
+			@ApiResponse(code = SC_INTERNAL_SERVER_ERROR, message = "An unexpected error occurred!") })
+	@PostMapping("/bulk")
+	public ResponseEntity<List<BulkPlanetResponse>> createPlanets(
+			@RequestBody
+			@NotNull List<CreatePlanetRequest> body) {
+		log.debug("Request for create {} planets", body.size());
+		checkBulkSize(body.size());
+
+		final var responses = new BulkPlanetResponse[body.size()];
+		final var validIndexes = new ArrayList<Integer>();
+		final var validPlanets = new ArrayList<Planet>();
+		for (int i = 0; i < body.size(); i++) {
+			final var violations = getViolations(body.get(i));
+			if (violations.isEmpty()) {
+				validIndexes.add(i);
+				validPlanets.add(new Planet(body.get(i)
+						.getName(), body.get(i)
+						.getClimate(), body.get(i)
+						.getTerrain()));
+			} else {
+				responses[i] = BulkPlanetResponse.builder()
+						.index(i)
+						.status(BulkOperationStatus.INVALID)
+						.message(violations)
+						.build();
+			}
+		}
+
+		final var createdPlanets = planetService.createPlanets(validPlanets);
+		for (int i = 0; i < createdPlanets.size(); i++) {
+			responses[validIndexes.get(i)] = convertToBulkPlanetResponse(validIndexes.get(i), createdPlanets.get(i));
+		}
+
+		log.debug("Planets processed!");
+		return ResponseEntity.ok()
+				.body(List.of(responses));
+	}
+
+	@ApiOperation(value = "Find Planets", response = FindPlanetResponse.class, responseContainer = "List")
 	@ApiResponses(value = { @ApiResponse(code = HttpServletResponse.SC_OK, message = "Return found planets"),
+			@ApiResponse(code = SC_BAD_REQUEST, message = "Invalid pagination parameters"),
 			@ApiResponse(code = SC_INTERNAL_SERVER_ERROR, message = "An unexpected error occurred!") })
 	@GetMapping
-	public ResponseEntity<Set<FindPlanetResponse>> findPlanets(
+	public ResponseEntity<byte[]> findPlanets(
+			@RequestParam(required = false)
+					String name,
+			@RequestParam(required = false)
+					Integer page,
 			@RequestParam(required = false)
-					String name) {
-		log.info("Request for find planets");
+					Integer size,
+			@RequestParam(required = false)
+					String cursor) {
+		log.debug("Request for find planets");
 
-		final var planets = planetService.findPlanetsWithFilmAppearances(name);
+		final var eTag = planetService.findCollectionVersion()
+				.orElseGet(() -> new PlanetCollectionVersion(null, INITIAL_COLLECTION_VERSION, null))
+				.toETag();
+		final var gzipAccepted = acceptsGzip(getCurrentRequestHeader(HttpHeaders.ACCEPT_ENCODING));
+		if (checkNotModified(gzipAccepted && matchesETag(eTag + GZIP_ETAG_SUFFIX) ? eTag + GZIP_ETAG_SUFFIX : eTag,
+				UNKNOWN_LAST_MODIFIED)) {
+			log.debug("Planets not modified");
+			return notModified();
+		}
 
-		log.info("Returning result");
-		return ResponseEntity.ok()
-				.body(convertToFindPlanetResponse(planets));
+		final var cachedResponse = planetResponseCache.get(new PlanetResponseCache.Key(eTag, name, page, size, cursor),
+				() -> {
+					final var planetPage = planetService.findPlanetsWithFilmAppearances(name, page, size, cursor);
+					return new PlanetResponseCache.CachedResponse(writeJson(
+							convertToFindPlanetResponse(planetPage.planets())), planetPage.nextCursor());
+				});
+
+		log.debug("Returning result");
+		final var response = ResponseEntity.ok()
+				.cacheControl(CACHE_CONTROL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.varyBy(HttpHeaders.ACCEPT_ENCODING);
+		if (cachedResponse.nextCursor() != null) {
+			response.header(NEXT_CURSOR_HEADER, cachedResponse.nextCursor())
+					.header(HttpHeaders.LINK, getNextPageLink(cachedResponse.nextCursor()));
+		}
+		if (cachedResponse.gzip() != null && gzipAccepted) {
+			return response.header(HttpHeaders.CONTENT_ENCODING, GZIP)
+					.eTag(eTag + GZIP_ETAG_SUFFIX)
+					.body(cachedResponse.gzip());
+		}
+		return response.body(cachedResponse.json());
+	}
+
+	@ApiOperation(value = "Export Planets")
+	@ApiResponses(value = { @ApiResponse(code = HttpServletResponse.SC_OK, message = "Stream all planets, one per line"),
+			@ApiResponse(code = SC_INTERNAL_SERVER_ERROR, message = "An unexpected error occurred!") })
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public WebAsyncTask<Void> exportPlanets(HttpServletResponse response) {
+		log.debug("Request for export planets");
+
+		response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+		return new WebAsyncTask<>(properties.getExportTimeout()
+				.toMillis(), exportExecutor, () -> {
+			final var outputStream = response.getOutputStream();
+			planetService.exportPlanets(planets -> writePlanets(outputStream, planets));
+			return null;
+		});
 	}
 
 	@ApiOperation(value = "Find Planet By ID")
@@ -80,17 +221,43 @@ public class PlanetController extends AbstractRestController<String> {
 	public ResponseEntity<FindPlanetResponse> findPlanetById(
 			@PathVariable
 					String id) {
-		log.info("Request for find planet with id [{}]", id);
+		log.debug("Request for find planet with id [{}]", id);
 		final var foundPlanet = planetService.findPlanetWithFilmAppearancesById(id);
+		final var lastModified = getLastModified(foundPlanet.lastModified());
+		if (checkNotModified(Long.toHexString(lastModified) + "-" + foundPlanet.filmAppearances(), lastModified)) {
+			log.debug("Planet with id [{}] not modified", id);
+			return notModified();
+		}
 
-		log.info("Converting tuple to response");
+		log.debug("Converting tuple to response");
 		final var convertToFindPlanetResponse = convertToFindPlanetResponse(foundPlanet);
 
-		log.info("Returning planet: [{}]", convertToFindPlanetResponse);
+		if (log.isDebugEnabled()) {
+			log.debug("Returning planet: [{}]", convertToFindPlanetResponse);
+		}
 		return ResponseEntity.ok()
+				.cacheControl(CACHE_CONTROL)
 				.body(convertToFindPlanetResponse);
 	}
 
+	@ApiOperation(value = "Delete Planets in bulk")
+	@ApiResponses(value = { @ApiResponse(code = HttpServletResponse.SC_OK, message = "Result of each planet id"),
+			@ApiResponse(code = SC_BAD_REQUEST, message = "Too many planets"),
+			@ApiResponse(code = SC_INTERNAL_SERVER_ERROR, message = "An unexpected error occurred!") })
+	@DeleteMapping("/bulk")
+	public ResponseEntity<List<BulkPlanetResponse>> deletePlanets(
+			@RequestBody
+			@NotNull List<String> body) {
+		log.debug("Request for delete {} planets", body.size());
+		checkBulkSize(body.size());
+
+		final var deletedIds = planetService.deletePlanetsById(body);
+
+		log.debug("{} planets deleted!", deletedIds.size());
+		return ResponseEntity.ok()
+				.body(convertToBulkPlanetResponse(body, deletedIds));
+	}
+
 	@ApiOperation(value = "Delete Planet By ID")
 	@ApiResponses(value = { @ApiResponse(code = HttpServletResponse.SC_NO_CONTENT, message = "Planet deleted"),
 			@ApiResponse(code = HttpServletResponse.SC_NOT_FOUND, message = "Planet not found"),
@@ -99,12 +266,76 @@ public class PlanetController extends AbstractRestController<String> {
 	public ResponseEntity<Void> deletePlanet(
 			@PathVariable
 					String id) {
-		log.info("Request for delete planet with id [{}]", id);
+		log.debug("Request for delete planet with id [{}]", id);
 
 		planetService.deletePlanetById(id);
 
-		log.info("Planet deleted!");
+		log.debug("Planet deleted!");
 		return ResponseEntity.noContent()
 				.build();
 	}
+
+	// Checked before validating the items so an oversized body is rejected without validating each planet
+	private void checkBulkSize(int size) {
+		if (size > properties.getBulkMaxSize()) {
+			throw new IllegalArgumentException(
+					String.format("Bulk operations accept at most %d planets", properties.getBulkMaxSize()));
+		}
+	}
+
+	private String getViolations(CreatePlanetRequest planet) {
+		if (planet == null) {
+			return "Planet cannot be null";
+		}
+
+		return validator.validate(planet)
+				.stream()
+				.map(ConstraintViolation::getMessage)
+				.sorted()
+				.collect(Collectors.joining(", "));
+	}
+
+	private void writePlanets(OutputStream outputStream, List<PlanetSummary> planets) {
+		try {
+			for (FindPlanetResponse planet : convertToFindPlanetResponse(planets)) {
+				outputStream.write(objectMapper.writeValueAsBytes(planet));
+				outputStream.write(NEW_LINE);
+			}
+			outputStream.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private byte[] writeJson(List<FindPlanetResponse> planets) {
+		try {
+			return objectMapper.writeValueAsBytes(planets);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private <T> ResponseEntity<T> notModified() {
+		return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.cacheControl(CACHE_CONTROL)
+				.build();
+	}
+
+	// The gzip body is another representation and gets its own strong ETag, so either one can be revalidated
+	private boolean matchesETag(String eTag) {
+		final var ifNoneMatch = getCurrentRequestHeader(HttpHeaders.IF_NONE_MATCH);
+		return ifNoneMatch != null && ifNoneMatch.contains("\"" + eTag + "\"");
+	}
+
+	private long getLastModified(LocalDateTime lastModified) {
+		return lastModified == null ? UNKNOWN_LAST_MODIFIED : lastModified.atZone(ZoneId.systemDefault())
+				.toInstant()
+				.toEpochMilli();
+	}
+
+	private String getNextPageLink(String nextCursor) {
+		return "<" + getCurrentRequestUriBuilder().replaceQueryParam("page")
+				.replaceQueryParam("cursor", nextCursor)
+				.toUriString() + ">; rel=\"next\"";
+	}
 }
@@ -0,0 +1,105 @@
+package com.starwars.planets.controller;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.event.PlanetsChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import static com.starwars.planets.model.Planet.normalizeName;
+
+@Component
+public class PlanetResponseCache implements MeterBinder {
+
+	public static final String PLANET_RESPONSE_CACHE = "planet-responses";
+	public static final String GZIP = "gzip";
+
+	private static final Pattern GZIP_REJECTED = Pattern.compile("gzip\\s*;\\s*q\\s*=\\s*0(\\.0*)?");
+
+	private final Cache<Key, CachedResponse> cache;
+	private final long gzipMinSize;
+
+	public PlanetResponseCache(PlanetProperties properties) {
+		this.gzipMinSize = properties.getResponseCacheGzipMinSize()
+				.toBytes();
+		this.cache = Caffeine.newBuilder()
+				.maximumWeight(properties.getResponseCacheMaximumSize()
+						.toBytes())
+				.weigher((Key key, CachedResponse value) -> value.size())
+				.recordStats()
+				.build();
+	}
+
+	// Entries are keyed by the list ETag, so any write makes them unreachable and they age out by size
+	public CachedResponse get(Key key, Supplier<CachedResponse> loader) {
+		return cache.get(key, x -> withGzip(loader.get()));
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	// Writes already make entries unreachable through the ETag; this frees them right away instead of waiting for
+	// them to age out, dropping list pages and name lookups only when their name changed
+	@EventListener
+	public void onPlanetsChanged(PlanetsChangedEvent event) {
+		cache.asMap()
+				.keySet()
+				.removeIf(x -> x.name() == null || x.name()
+						.isEmpty() || event.affectsName(normalizeName(x.name())));
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, cache, PLANET_RESPONSE_CACHE);
+	}
+
+	public static boolean acceptsGzip(String acceptEncoding) {
+		return acceptEncoding != null && Arrays.stream(acceptEncoding.split(","))
+				.map(x -> x.trim()
+						.toLowerCase(Locale.ROOT))
+				.anyMatch(x -> (x.equals(GZIP) || x.startsWith(GZIP + ";")) && !GZIP_REJECTED.matcher(x)
+						.matches());
+	}
+
+	private CachedResponse withGzip(CachedResponse response) {
+		if (response.json().length < gzipMinSize) {
+			return response;
+		}
+
+		final var gzip = new ByteArrayOutputStream(response.json().length / 4);
+		try (final var gzipOutputStream = new GZIPOutputStream(gzip)) {
+			gzipOutputStream.write(response.json());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return new CachedResponse(response.json(), gzip.toByteArray(), response.nextCursor());
+	}
+
+	public record Key(String eTag, String name, Integer page, Integer size, String cursor) {
+	}
+
+	public record CachedResponse(byte[] json, byte[] gzip, String nextCursor) {
+
+		public CachedResponse(byte[] json, String nextCursor) {
+			this(json, null, nextCursor);
+		}
+
+		int size() {
+			return json.length + (gzip == null ? 0 : gzip.length);
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package com.starwars.planets.controller;
+
+import com.starwars.planets.converter.PlanetConverter;
+import com.starwars.planets.dto.request.CreatePlanetRequest;
+import com.starwars.planets.dto.response.FindPlanetResponse;
+import com.starwars.planets.model.Planet;
+import com.starwars.planets.service.ReactivePlanetService;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+import static com.starwars.planets.controller.PlanetController.NEXT_CURSOR_HEADER;
+import static com.starwars.planets.converter.PlanetConverter.convertToFindPlanetResponse;
+
+@RestController
+@Log4j2
+@RequestMapping("/api/v1/star-wars/planets")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePlanetController {
+
+	private final ReactivePlanetService planetService;
+
+	public ReactivePlanetController(ReactivePlanetService planetService) {
+		this.planetService = planetService;
+	}
+
+	@PostMapping
+	public Mono<ResponseEntity<String>> createPlanet(
+			@RequestBody
+			@Valid @NotNull CreatePlanetRequest body, ServerHttpRequest request) {
+		if (log.isDebugEnabled()) {
+			log.debug("Request for create planet: [{}]", body);
+		}
+
+		return planetService.createPlanet(new Planet(body.getName(), body.getClimate(), body.getTerrain()))
+				.map(x -> {
+					log.debug("Planet create with success!");
+					return ResponseEntity.created(UriComponentsBuilder.fromHttpRequest(request)
+									.path("/{id}")
+									.buildAndExpand(x.getUuid())
+									.toUri())
+							.body("{ \"id\": \"" + x.getUuid() + "\"}");
+				});
+	}
+
+	@GetMapping
+	public Mono<ResponseEntity<List<FindPlanetResponse>>> findPlanets(
+			@RequestParam(required = false)
+					String name,
+			@RequestParam(required = false)
+					Integer page,
+			@RequestParam(required = false)
+					Integer size,
+			@RequestParam(required = false)
+					String cursor, ServerHttpRequest request) {
+		log.debug("Request for find planets");
+
+		return planetService.findPlanetsWithFilmAppearances(name, page, size, cursor)
+				.map(x -> {
+					log.debug("Returning result");
+					final var response = ResponseEntity.ok();
+					if (x.nextCursor() != null) {
+						response.header(NEXT_CURSOR_HEADER, x.nextCursor())
+								.header(HttpHeaders.LINK, getNextPageLink(request, x.nextCursor()));
+					}
+					return response.body(convertToFindPlanetResponse(x.planets()));
+				});
+	}
+
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<FindPlanetResponse> exportPlanets() {
+		log.debug("Request for export planets");
+
+		return planetService.exportPlanets()
+				.map(PlanetConverter::convertToFindPlanetResponse);
+	}
+
+	@GetMapping("/{id}")
+	public Mono<ResponseEntity<FindPlanetResponse>> findPlanetById(
+			@PathVariable
+					String id) {
+		log.debug("Request for find planet with id [{}]", id);
+
+		return planetService.findPlanetWithFilmAppearancesById(id)
+				.map(x -> {
+					final var convertToFindPlanetResponse = convertToFindPlanetResponse(x);
+					if (log.isDebugEnabled()) {
+						log.debug("Returning planet: [{}]", convertToFindPlanetResponse);
+					}
+					return ResponseEntity.ok()
+							.body(convertToFindPlanetResponse);
+				});
+	}
+
+	@DeleteMapping("/{id}")
+	public Mono<ResponseEntity<Void>> deletePlanet(
+			@PathVariable
+					String id) {
+		log.debug("Request for delete planet with id [{}]", id);
+
+		return planetService.deletePlanetById(id)
+				.then(Mono.fromCallable(() -> {
+					log.debug("Planet deleted!");
+					return ResponseEntity.noContent()
+							.build();
+				}));
+	}
+
+	private String getNextPageLink(ServerHttpRequest request, String nextCursor) {
+		return "<" + UriComponentsBuilder.fromHttpRequest(request)
+				.replaceQueryParam("page")
+				.replaceQueryParam("cursor", nextCursor)
+				.toUriString() + ">; rel=\"next\"";
+	}
+}
@@ -7,9 +7,11 @@ import com.starwars.planets.exception.model.AttributeMessage;
 import com.starwars.planets.exception.model.ExceptionResponse;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -17,6 +19,8 @@ import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
@@ -109,6 +113,15 @@ public class ControllerExceptionHandler {
 				.body(err);
 	}
 
+	@ExceptionHandler(DuplicateKeyException.class)
+	@ResponseBody
+	public ResponseEntity<ExceptionResponse> duplicateKeyException(DuplicateKeyException e) {
+		log.error(e.getMessage());
+		ExceptionResponse err = new ExceptionResponse(HttpStatus.CONFLICT, "Resource already exist");
+		return ResponseEntity.status(HttpStatus.CONFLICT)
+				.body(err);
+	}
+
 	@ExceptionHandler(DataNotFoundException.class)
 	@ResponseBody
 	public ResponseEntity<ExceptionResponse> dataNotFoundException(DataNotFoundException e) {
@@ -130,9 +143,28 @@ public class ControllerExceptionHandler {
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	@ResponseBody
 	public ResponseEntity<ExceptionResponse> methodArgumentNotValidException(MethodArgumentNotValidException e) {
+		return newValidationResponse(e.getBindingResult());
+	}
+
+	@ExceptionHandler(WebExchangeBindException.class)
+	@ResponseBody
+	public ResponseEntity<ExceptionResponse> webExchangeBindException(WebExchangeBindException e) {
+		return newValidationResponse(e.getBindingResult());
+	}
+
+	@ExceptionHandler(ServerWebInputException.class)
+	@ResponseBody
+	public ResponseEntity<ExceptionResponse> serverWebInputException(ServerWebInputException e) {
+		log.error(e);
+		ExceptionResponse err = new ExceptionResponse(HttpStatus.BAD_REQUEST, e.getReason());
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+				.body(err);
+	}
+
+	private ResponseEntity<ExceptionResponse> newValidationResponse(BindingResult bindingResult) {
 
 		List<AttributeMessage> attributeMessages = new ArrayList<>();
-		for (ObjectError objectError : e.getBindingResult().getAllErrors()) {
+		for (ObjectError objectError : bindingResult.getAllErrors()) {
 			attributeMessages.add(new AttributeMessage(((FieldError) objectError).getField(), objectError.getDefaultMessage()));
 		}
 		ExceptionResponse err = new ExceptionResponse(HttpStatus.BAD_REQUEST, VALIDATION_EXCEPTION_MSG, attributeMessages);
@@ -1,42 +1,58 @@
 package com.starwars.planets.converter;
 
+import com.starwars.planets.dto.BulkCreateResult;
+import com.starwars.planets.dto.BulkOperationStatus;
+import com.starwars.planets.dto.PlanetSummary;
+import com.starwars.planets.dto.response.BulkPlanetResponse;
 import com.starwars.planets.dto.response.FindPlanetResponse;
-import com.starwars.planets.model.Planet;
 
-import java.util.Map;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.starwars.planets.service.PlanetService.ZERO_APPEARANCES;
 
 public class PlanetConverter {
 
-	public static Set<FindPlanetResponse> convertToFindPlanetResponse(Map<Planet, Integer> planetsWithFilmAppearances) {
-		return planetsWithFilmAppearances.entrySet()
-				.stream()
-				.map(x -> FindPlanetResponse.builder()
-						.filmAppearances(x.getValue())
-						.climate(x.getKey()
-								.getClimate())
-						.name(x.getKey()
-								.getName())
-						.terrain(x.getKey()
-								.getTerrain())
-						.id(x.getKey()
-								.getUuid())
-						.build())
-				.collect(Collectors.toUnmodifiableSet());
+	public static List<FindPlanetResponse> convertToFindPlanetResponse(List<PlanetSummary> planets) {
+		return planets.stream()
+				.map(PlanetConverter::convertToFindPlanetResponse)
+				.collect(Collectors.toUnmodifiableList());
+	}
+
+	public static FindPlanetResponse convertToFindPlanetResponse(PlanetSummary planet) {
+		return new FindPlanetResponse(planet.uuid(), planet.name(), planet.terrain(), planet.climate(),
+				Optional.ofNullable(planet.filmAppearances())
+						.orElse(ZERO_APPEARANCES), planet.filmAppearances() == null);
 	}
 
-	public static FindPlanetResponse convertToFindPlanetResponse(Map.Entry<Planet, Integer> planetWithFilmAppearances) {
-		return FindPlanetResponse.builder()
-				.filmAppearances(planetWithFilmAppearances.getValue())
-				.climate(planetWithFilmAppearances.getKey()
-						.getClimate())
-				.name(planetWithFilmAppearances.getKey()
-						.getName())
-				.terrain(planetWithFilmAppearances.getKey()
-						.getTerrain())
-				.id(planetWithFilmAppearances.getKey()
-						.getUuid())
+	public static BulkPlanetResponse convertToBulkPlanetResponse(int index, BulkCreateResult bulkCreateResult) {
+		final var planet = bulkCreateResult.planet();
+		if (bulkCreateResult.status() == BulkOperationStatus.CREATED) {
+			return BulkPlanetResponse.builder()
+					.index(index)
+					.id(planet.getUuid())
+					.status(BulkOperationStatus.CREATED)
+					.build();
+		}
+
+		return BulkPlanetResponse.builder()
+				.index(index)
+				.status(bulkCreateResult.status())
+				.message(String.format("Planet with name %s already exist", planet.getName()))
 				.build();
 	}
+
+	public static List<BulkPlanetResponse> convertToBulkPlanetResponse(List<String> planetIds, Set<String> deletedIds) {
+		return IntStream.range(0, planetIds.size())
+				.mapToObj(x -> BulkPlanetResponse.builder()
+						.index(x)
+						.id(planetIds.get(x))
+						.status(deletedIds.contains(planetIds.get(x)) ? BulkOperationStatus.DELETED :
+								BulkOperationStatus.NOT_FOUND)
+						.build())
+				.collect(Collectors.toUnmodifiableList());
+	}
 }
@@ -0,0 +1,6 @@
+package com.starwars.planets.dto;
+
+import com.starwars.planets.model.Planet;
+
+public record BulkCreateResult(Planet planet, BulkOperationStatus status) {
+}
@@ -0,0 +1,5 @@
+package com.starwars.planets.dto;
+
+public enum BulkOperationStatus {
+	CREATED, CONFLICT, INVALID, DELETED, NOT_FOUND
+}
@@ -0,0 +1,6 @@
+package com.starwars.planets.dto;
+
+import java.util.List;
+
+public record PlanetPage(List<PlanetSummary> planets, String nextCursor) {
+}
@@ -0,0 +1,23 @@
+package com.starwars.planets.dto;
+
+import org.springframework.data.annotation.PersistenceConstructor;
+
+import java.time.LocalDateTime;
+
+public record PlanetSummary(String id, String uuid, String name, String climate, String terrain,
+							Integer filmAppearances, LocalDateTime createAt, LocalDateTime filmAppearancesSyncedAt) {
+
+	@PersistenceConstructor
+	public PlanetSummary {
+	}
+
+	public PlanetSummary(String id, String uuid, String name, String climate, String terrain,
+			Integer filmAppearances) {
+		this(id, uuid, name, climate, terrain, filmAppearances, null, null);
+	}
+
+	// Planets are only changed in place by the film appearances sync, so its timestamp versions the planet
+	public LocalDateTime lastModified() {
+		return filmAppearancesSyncedAt == null ? createAt : filmAppearancesSyncedAt;
+	}
+}
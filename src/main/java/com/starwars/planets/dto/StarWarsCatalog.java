@@ -0,0 +1,18 @@
+package com.starwars.planets.dto;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.starwars.planets.model.Planet.normalizeName;
+
+public record StarWarsCatalog(Map<String, FoundPlanetIntegration> planets, Instant loadedAt) {
+
+	public StarWarsCatalog {
+		planets = Map.copyOf(planets);
+	}
+
+	public Optional<FoundPlanetIntegration> find(String name) {
+		return Optional.ofNullable(planets.get(normalizeName(name)));
+	}
+}
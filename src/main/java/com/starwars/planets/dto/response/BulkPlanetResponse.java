@@ -0,0 +1,27 @@
+package com.starwars.planets.dto.response;
+
+import com.starwars.planets.dto.BulkOperationStatus;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkPlanetResponse {
+
+	@ApiModelProperty(notes = "Position of the item in the request", example = "0")
+	private Integer index;
+
+	@ApiModelProperty(notes = "Planet id", example = "34")
+	private String id;
+
+	@ApiModelProperty(notes = "Result of the item", example = "CREATED")
+	private BulkOperationStatus status;
+
+	@ApiModelProperty(notes = "Why the item was not applied", example = "Planet name cannot be null")
+	private String message;
+}
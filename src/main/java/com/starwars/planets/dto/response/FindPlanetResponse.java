@@ -26,4 +26,7 @@ public class FindPlanetResponse {
 
 	@ApiModelProperty(notes = "Quantity of film appearances", example = "3")
 	private Integer filmAppearances;
+
+	@ApiModelProperty(notes = "Film appearances not synced with Star Wars API yet", example = "false")
+	private Boolean degraded;
 }
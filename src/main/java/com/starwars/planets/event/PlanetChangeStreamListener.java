@@ -0,0 +1,78 @@
+package com.starwars.planets.event;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.starwars.planets.model.Planet;
+import lombok.extern.log4j.Log4j2;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Component
+@Log4j2
+@ConditionalOnProperty(value = "planets.change-stream.enabled", havingValue = "true")
+public class PlanetChangeStreamListener implements SmartLifecycle {
+
+	private final MongoTemplate mongoTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final MessageListenerContainer container;
+
+	public PlanetChangeStreamListener(MongoTemplate mongoTemplate, ApplicationEventPublisher eventPublisher) {
+		this.mongoTemplate = mongoTemplate;
+		this.eventPublisher = eventPublisher;
+		this.container = new DefaultMessageListenerContainer(mongoTemplate);
+	}
+
+	@Override
+	public void start() {
+		log.info("Listening to planet changes from other instances");
+		container.start();
+		container.register(ChangeStreamRequest.<Planet>builder(this::onChange)
+				.collection(mongoTemplate.getCollectionName(Planet.class))
+				.filter(newAggregation(match(where("operationType").in(OperationType.INSERT.getValue(),
+						OperationType.DELETE.getValue()))))
+				.build(), Planet.class);
+	}
+
+	@Override
+	public void stop() {
+		container.stop();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return container.isRunning();
+	}
+
+	// Writes of this instance are seen twice, once from the service and once from the stream; listeners only evict,
+	// so that is harmless
+	void onChange(Message<ChangeStreamDocument<Document>, Planet> message) {
+		final var change = message.getRaw();
+		if (change == null) {
+			return;
+		}
+
+		if (change.getOperationType() == OperationType.INSERT) {
+			final var planet = message.getBody();
+			eventPublisher.publishEvent(planet == null ? new PlanetsCreatedEvent(Set.of(), null) :
+					PlanetsCreatedEvent.of(List.of(planet)));
+		} else if (change.getOperationType() == OperationType.DELETE) {
+			// Only the document key survives a delete
+			eventPublisher.publishEvent(new PlanetsDeletedEvent(Set.of(), null));
+		}
+	}
+}
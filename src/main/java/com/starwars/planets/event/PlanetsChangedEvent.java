@@ -0,0 +1,28 @@
+package com.starwars.planets.event;
+
+import com.starwars.planets.model.Planet;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Published once per write operation; a null normalizedNames means the changed planets are not known
+public interface PlanetsChangedEvent {
+
+	Set<String> uuids();
+
+	Set<String> normalizedNames();
+
+	default boolean affectsName(String normalizedName) {
+		return normalizedNames() == null || normalizedNames().contains(normalizedName);
+	}
+
+	static Set<String> collect(Collection<Planet> planets, Function<Planet, String> field) {
+		return planets.stream()
+				.map(field)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
+	}
+}
@@ -0,0 +1,14 @@
+package com.starwars.planets.event;
+
+import com.starwars.planets.model.Planet;
+
+import java.util.Collection;
+import java.util.Set;
+
+public record PlanetsCreatedEvent(Set<String> uuids, Set<String> normalizedNames) implements PlanetsChangedEvent {
+
+	public static PlanetsCreatedEvent of(Collection<Planet> planets) {
+		return new PlanetsCreatedEvent(PlanetsChangedEvent.collect(planets, Planet::getUuid),
+				PlanetsChangedEvent.collect(planets, Planet::getNormalizedName));
+	}
+}
@@ -0,0 +1,14 @@
+package com.starwars.planets.event;
+
+import com.starwars.planets.model.Planet;
+
+import java.util.Collection;
+import java.util.Set;
+
+public record PlanetsDeletedEvent(Set<String> uuids, Set<String> normalizedNames) implements PlanetsChangedEvent {
+
+	public static PlanetsDeletedEvent of(Collection<Planet> planets) {
+		return new PlanetsDeletedEvent(PlanetsChangedEvent.collect(planets, Planet::getUuid),
+				PlanetsChangedEvent.collect(planets, Planet::getNormalizedName));
+	}
+}
@@ -4,8 +4,10 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Data
 @AllArgsConstructor
@@ -14,16 +16,32 @@ public class Planet {
 
 	@Id
 	private String id;
+	@Indexed(unique = true)
 	private String uuid;
 	private String name;
+	@Indexed(unique = true, sparse = true)
+	private String normalizedName;
 	private String climate;
 	private String terrain;
 	private LocalDateTime createAt;
 	private String createdBy;
+	private Integer filmAppearances;
+	private LocalDateTime filmAppearancesSyncedAt;
+	private Boolean normalizedNameConflict;
 
 	public Planet(String name, String climate, String terrain) {
 		this.name = name;
 		this.climate = climate;
 		this.terrain = terrain;
 	}
+
+	public Planet(String id, String uuid, String name, String climate, String terrain, LocalDateTime createAt,
+			String createdBy) {
+		this(id, uuid, name, null, climate, terrain, createAt, createdBy, null, null, null);
+	}
+
+	public static String normalizeName(String name) {
+		return name.trim()
+				.toLowerCase(Locale.ROOT);
+	}
 }
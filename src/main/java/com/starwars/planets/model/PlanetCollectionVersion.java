@@ -0,0 +1,37 @@
+package com.starwars.planets.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PlanetCollectionVersion {
+
+	public static final String PLANETS_VERSION_ID = "planets";
+
+	@Id
+	private String id;
+	private Long version;
+	private LocalDateTime updatedAt;
+	@Transient
+	private Long planetCount;
+	@Transient
+	private String lastPlanetId;
+
+	public PlanetCollectionVersion(String id, Long version, LocalDateTime updatedAt) {
+		this(id, version, updatedAt, null, null);
+	}
+
+	// The version is bumped after the write and can be missed, so the planet count and the newest planet id
+	// keep creates and deletes visible in the ETag anyway
+	public String toETag() {
+		return version + "-" + Objects.toString(planetCount, "0") + "-" + Objects.toString(lastPlanetId, "");
+	}
+}
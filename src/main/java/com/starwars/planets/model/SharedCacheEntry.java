@@ -0,0 +1,21 @@
+package com.starwars.planets.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SharedCacheEntry {
+
+	@Id
+	private String id;
+	private byte[] value;
+	@Indexed(expireAfterSeconds = 0)
+	private LocalDateTime expireAt;
+}
@@ -1,15 +1,37 @@
 package com.starwars.planets.repository;
 
+import com.starwars.planets.dto.PlanetSummary;
 import com.starwars.planets.model.Planet;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface PlanetRepository extends MongoRepository<Planet, String> {
+public interface PlanetRepository extends MongoRepository<Planet, String>, PlanetRepositoryCustom {
 
-	Optional<Planet> findByNameIgnoreCase(String name);
+	Optional<PlanetSummary> findByNormalizedName(String normalizedName);
 
 	Optional<Planet> findByUuid(String uuid);
+
+	<T> Optional<T> findByUuid(String uuid, Class<T> type);
+
+	List<Planet> deleteByUuidIn(Collection<String> uuids);
+
+	Slice<PlanetSummary> findAllBy(Pageable pageable);
+
+	Slice<PlanetSummary> findByIdGreaterThan(String id, Pageable pageable);
+
+	Stream<PlanetSummary> streamAllBy();
+
+	Stream<Planet> streamByNormalizedNameIsNullAndNormalizedNameConflictIsNull();
+
+	List<Planet> findByFilmAppearancesSyncedAtIsNullOrFilmAppearancesSyncedAtBefore(LocalDateTime syncedBefore,
+			Pageable pageable);
 }
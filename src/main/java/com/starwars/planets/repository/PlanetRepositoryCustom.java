@@ -0,0 +1,26 @@
+package com.starwars.planets.repository;
+
+import com.starwars.planets.model.Planet;
+import com.starwars.planets.model.PlanetCollectionVersion;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public interface PlanetRepositoryCustom {
+
+	void updateFilmAppearances(Map<String, Integer> filmAppearancesById, LocalDateTime syncedAt);
+
+	Set<String> updateNormalizedNames(Map<String, String> normalizedNamesById);
+
+	void markNormalizedNameConflicts(Collection<String> ids);
+
+	Set<Integer> insertIgnoringDuplicates(List<Planet> planets);
+
+	Optional<PlanetCollectionVersion> findCollectionVersion();
+
+	void incrementCollectionVersion();
+}
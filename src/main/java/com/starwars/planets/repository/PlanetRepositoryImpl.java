@@ -0,0 +1,124 @@
+package com.starwars.planets.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.starwars.planets.model.Planet;
+import com.starwars.planets.model.PlanetCollectionVersion;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.starwars.planets.model.PlanetCollectionVersion.PLANETS_VERSION_ID;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class PlanetRepositoryImpl implements PlanetRepositoryCustom {
+
+	private static final int DUPLICATE_KEY_ERROR = 11000;
+	private static final long INITIAL_COLLECTION_VERSION = 0;
+
+	private final MongoTemplate mongoTemplate;
+
+	public PlanetRepositoryImpl(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	@Override
+	public void updateFilmAppearances(Map<String, Integer> filmAppearancesById, LocalDateTime syncedAt) {
+		if (filmAppearancesById.isEmpty()) {
+			return;
+		}
+
+		final var bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, Planet.class);
+		filmAppearancesById.forEach((id, filmAppearances) -> bulkOperations.updateOne(query(where("id").is(id)),
+				new Update().set("filmAppearances", filmAppearances)
+						.set("filmAppearancesSyncedAt", syncedAt)));
+		bulkOperations.execute();
+	}
+
+	@Override
+	public Set<String> updateNormalizedNames(Map<String, String> normalizedNamesById) {
+		if (normalizedNamesById.isEmpty()) {
+			return Set.of();
+		}
+
+		final var ids = List.copyOf(normalizedNamesById.keySet());
+		final var bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, Planet.class);
+		ids.forEach(x -> bulkOperations.updateOne(query(where("id").is(x)),
+				new Update().set("normalizedName", normalizedNamesById.get(x))));
+		return getDuplicateIndexes(bulkOperations).stream()
+				.map(ids::get)
+				.collect(Collectors.toUnmodifiableSet());
+	}
+
+	@Override
+	public void markNormalizedNameConflicts(Collection<String> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		mongoTemplate.updateMulti(query(where("id").in(ids)), new Update().set("normalizedNameConflict", true),
+				Planet.class);
+	}
+
+	@Override
+	public Set<Integer> insertIgnoringDuplicates(List<Planet> planets) {
+		if (planets.isEmpty()) {
+			return Set.of();
+		}
+
+		return getDuplicateIndexes(mongoTemplate.bulkOps(BulkMode.UNORDERED, Planet.class)
+				.insert(planets));
+	}
+
+	// The count comes from the collection metadata and the newest planet from the _id index, so no planet is scanned
+	@Override
+	public Optional<PlanetCollectionVersion> findCollectionVersion() {
+		final var collectionVersion = Optional.ofNullable(
+						mongoTemplate.findById(PLANETS_VERSION_ID, PlanetCollectionVersion.class))
+				.orElseGet(() -> new PlanetCollectionVersion(PLANETS_VERSION_ID, INITIAL_COLLECTION_VERSION, null));
+		final var lastPlanetQuery = new Query().with(Sort.by(Sort.Direction.DESC, "id"))
+				.limit(1);
+		lastPlanetQuery.fields()
+				.include("id");
+		collectionVersion.setPlanetCount(mongoTemplate.estimatedCount(Planet.class));
+		collectionVersion.setLastPlanetId(Optional.ofNullable(mongoTemplate.findOne(lastPlanetQuery, Planet.class))
+				.map(Planet::getId)
+				.orElse(null));
+		return Optional.of(collectionVersion);
+	}
+
+	@Override
+	public void incrementCollectionVersion() {
+		mongoTemplate.upsert(query(where("id").is(PLANETS_VERSION_ID)), new Update().inc("version", 1)
+				.set("updatedAt", LocalDateTime.now()), PlanetCollectionVersion.class);
+	}
+
+	private Set<Integer> getDuplicateIndexes(BulkOperations bulkOperations) {
+		try {
+			bulkOperations.execute();
+			return Set.of();
+		} catch (BulkOperationException e) {
+			if (e.getErrors()
+					.stream()
+					.anyMatch(x -> x.getCode() != DUPLICATE_KEY_ERROR)) {
+				throw e;
+			}
+			return e.getErrors()
+					.stream()
+					.map(BulkWriteError::getIndex)
+					.collect(Collectors.toUnmodifiableSet());
+		}
+	}
+}
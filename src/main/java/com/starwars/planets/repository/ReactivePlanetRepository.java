@@ -0,0 +1,28 @@
+package com.starwars.planets.repository;
+
+import com.starwars.planets.dto.PlanetSummary;
+import com.starwars.planets.model.Planet;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactivePlanetRepository
+		extends ReactiveMongoRepository<Planet, String>, ReactivePlanetRepositoryCustom {
+
+	Mono<PlanetSummary> findByNormalizedName(String normalizedName);
+
+	Mono<Planet> findByUuid(String uuid);
+
+	<T> Mono<T> findByUuid(String uuid, Class<T> type);
+
+	Flux<PlanetSummary> findAllBy();
+
+	Flux<PlanetSummary> findAllBy(Pageable pageable);
+
+	Flux<PlanetSummary> findByIdGreaterThan(String id, Pageable pageable);
+
+	Mono<Boolean> existsByIdGreaterThan(String id);
+}
@@ -0,0 +1,8 @@
+package com.starwars.planets.repository;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactivePlanetRepositoryCustom {
+
+	Mono<Void> incrementCollectionVersion();
+}
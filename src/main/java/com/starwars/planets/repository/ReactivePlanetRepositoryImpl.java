@@ -0,0 +1,28 @@
+package com.starwars.planets.repository;
+
+import com.starwars.planets.model.PlanetCollectionVersion;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static com.starwars.planets.model.PlanetCollectionVersion.PLANETS_VERSION_ID;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class ReactivePlanetRepositoryImpl implements ReactivePlanetRepositoryCustom {
+
+	private final ReactiveMongoTemplate mongoTemplate;
+
+	public ReactivePlanetRepositoryImpl(ReactiveMongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	@Override
+	public Mono<Void> incrementCollectionVersion() {
+		return mongoTemplate.upsert(query(where("id").is(PLANETS_VERSION_ID)), new Update().inc("version", 1)
+						.set("updatedAt", LocalDateTime.now()), PlanetCollectionVersion.class)
+				.then();
+	}
+}
@@ -0,0 +1,86 @@
+package com.starwars.planets.service;
+
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.dto.FoundPlanetIntegration;
+import com.starwars.planets.exception.IntegrationException;
+import com.starwars.planets.model.Planet;
+import com.starwars.planets.repository.PlanetRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static com.starwars.planets.model.Planet.normalizeName;
+import static com.starwars.planets.service.PlanetService.ZERO_APPEARANCES;
+
+@Component
+@Log4j2
+public class FilmAppearancesRefresher {
+
+	private final PlanetProperties properties;
+	private final PlanetRepository planetRepository;
+	private final StarWarsIntegration starWarsIntegration;
+
+	public FilmAppearancesRefresher(
+			PlanetProperties properties, PlanetRepository planetRepository, StarWarsIntegration starWarsIntegration) {
+		this.properties = properties;
+		this.planetRepository = planetRepository;
+		this.starWarsIntegration = starWarsIntegration;
+	}
+
+	@Scheduled(initialDelayString = "${planets.film-appearances.refresh-initial-delay}",
+			fixedDelayString = "${planets.film-appearances.refresh-delay}")
+	public void refreshStaleFilmAppearances() {
+		try {
+			final var staleBefore = LocalDateTime.now()
+					.minus(properties.getFilmAppearancesStaleAfter());
+			final var batchSize = properties.getFilmAppearancesRefreshBatchSize();
+
+			List<Planet> stalePlanets;
+			do {
+				stalePlanets = planetRepository.findByFilmAppearancesSyncedAtIsNullOrFilmAppearancesSyncedAtBefore(
+						staleBefore, PageRequest.of(0, batchSize));
+				refreshFilmAppearances(stalePlanets);
+			} while (stalePlanets.size() == batchSize);
+		} catch (IntegrationException e) {
+			log.error("Error refreshing film appearances, stale planets will be retried on next run", e);
+		}
+	}
+
+	private void refreshFilmAppearances(List<Planet> planets) {
+		if (planets.isEmpty()) {
+			return;
+		}
+
+		log.info("Refreshing film appearances of {} planets", planets.size());
+		final var planetNames = planets.stream()
+				.map(Planet::getName)
+				.collect(Collectors.toSet());
+		final var foundPlanetsIntegration = starWarsIntegration.findPlanetsByNames(planetNames);
+
+		final var filmAppearancesById = planets.stream()
+				.collect(Collectors.toMap(Planet::getId,
+						x -> Optional.ofNullable(foundPlanetsIntegration.get(normalizeName(x.getName())))
+								.map(FoundPlanetIntegration::filmAppearances)
+								.orElse(ZERO_APPEARANCES)));
+
+		planetRepository.updateFilmAppearances(filmAppearancesById, LocalDateTime.now());
+
+		// Lists only show the film count, so they stay valid when no count changed
+		if (planets.stream()
+				.allMatch(x -> Objects.equals(x.getFilmAppearances(), filmAppearancesById.get(x.getId())))) {
+			return;
+		}
+		try {
+			planetRepository.incrementCollectionVersion();
+		} catch (RuntimeException e) {
+			log.warn("Could not increment planets collection version after refreshing film appearances", e);
+		}
+	}
+}
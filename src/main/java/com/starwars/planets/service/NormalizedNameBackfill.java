@@ -0,0 +1,62 @@
+package com.starwars.planets.service;
+
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.model.Planet;
+import com.starwars.planets.repository.PlanetRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.starwars.planets.model.Planet.normalizeName;
+
+@Component
+@Log4j2
+@ConditionalOnProperty(value = "spring.data.mongodb.auto-index-creation", havingValue = "true")
+public class NormalizedNameBackfill implements ApplicationRunner {
+
+	private final PlanetProperties properties;
+	private final PlanetRepository planetRepository;
+
+	public NormalizedNameBackfill(PlanetProperties properties, PlanetRepository planetRepository) {
+		this.properties = properties;
+		this.planetRepository = planetRepository;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		log.info("Backfilling normalized name of planets");
+		final var batchSize = properties.getNormalizedNameBackfillBatchSize();
+		final var normalizedNamesById = new HashMap<String, String>(batchSize);
+
+		try (final var planets = planetRepository.streamByNormalizedNameIsNullAndNormalizedNameConflictIsNull()) {
+			planets.filter(x -> x.getName() != null)
+					.forEach(x -> {
+						normalizedNamesById.put(x.getId(), normalizeName(x.getName()));
+						if (normalizedNamesById.size() == batchSize) {
+							updateNormalizedNames(normalizedNamesById);
+						}
+					});
+		}
+
+		if (!normalizedNamesById.isEmpty()) {
+			updateNormalizedNames(normalizedNamesById);
+		}
+	}
+
+	// Conflicting planets are flagged so they are reported once and not scanned again on every startup
+	private void updateNormalizedNames(Map<String, String> normalizedNamesById) {
+		final var conflictingIds = planetRepository.updateNormalizedNames(Map.copyOf(normalizedNamesById));
+		if (!conflictingIds.isEmpty()) {
+			conflictingIds.forEach(x -> log.warn(
+					"Planet [{}] was left without normalized name, [{}] is used by another planet", x,
+					normalizedNamesById.get(x)));
+			planetRepository.markNormalizedNameConflicts(conflictingIds);
+		}
+		normalizedNamesById.clear();
+	}
+}
@@ -0,0 +1,54 @@
+package com.starwars.planets.service;
+
+import com.starwars.planets.PlanetProperties;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+public final class PlanetPagination {
+
+	private static final int FIRST_PAGE = 0;
+	private static final String ID = "id";
+
+	private PlanetPagination() {
+	}
+
+	public static PageRequest getPageRequest(Integer page, Integer size, PlanetProperties properties) {
+		return PageRequest.of(Optional.ofNullable(page)
+				.orElse(FIRST_PAGE), getPageSize(size, properties), Sort.by(ID));
+	}
+
+	public static String encodeCursor(String id) {
+		return Base64.getUrlEncoder()
+				.withoutPadding()
+				.encodeToString(id.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static String decodeCursor(String cursor) {
+		try {
+			final var id = new String(Base64.getUrlDecoder()
+					.decode(cursor), StandardCharsets.UTF_8);
+			if (ObjectId.isValid(id)) {
+				return id;
+			}
+		} catch (IllegalArgumentException e) {
+			// handled below as an invalid cursor
+		}
+		throw new IllegalArgumentException("Invalid cursor");
+	}
+
+	private static int getPageSize(Integer size, PlanetProperties properties) {
+		if (size == null) {
+			return properties.getPageDefaultSize();
+		}
+		if (size < 1 || size > properties.getPageMaxSize()) {
+			throw new IllegalArgumentException(
+					String.format("Page size must be between 1 and %d", properties.getPageMaxSize()));
+		}
+		return size;
+	}
+}
@@ -1,101 +1,291 @@
 package com.starwars.planets.service;
 
 import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.config.RequestTimings;
+import com.starwars.planets.dto.BulkCreateResult;
+import com.starwars.planets.dto.BulkOperationStatus;
+import com.starwars.planets.dto.FoundPlanetIntegration;
+import com.starwars.planets.dto.PlanetPage;
+import com.starwars.planets.dto.PlanetSummary;
+import com.starwars.planets.event.PlanetsCreatedEvent;
+import com.starwars.planets.event.PlanetsDeletedEvent;
 import com.starwars.planets.exception.ConflictException;
 import com.starwars.planets.exception.DataNotFoundException;
+import com.starwars.planets.exception.IntegrationException;
 import com.starwars.planets.model.Planet;
+import com.starwars.planets.model.PlanetCollectionVersion;
 import com.starwars.planets.repository.PlanetRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.starwars.planets.model.Planet.normalizeName;
+import static com.starwars.planets.service.PlanetPagination.decodeCursor;
+import static com.starwars.planets.service.PlanetPagination.encodeCursor;
+import static com.starwars.planets.service.PlanetPagination.getPageRequest;
 
 @Service
 @Log4j2
 public class PlanetService {
 
 	public static final int ZERO_APPEARANCES = 0;
+	public static final String PLANET_OPERATIONS_METRIC = "planets.operations";
+	public static final String MONGO_STEP = "mongo";
+	public static final String ENRICHMENT_STEP = "enrichment";
+
+	private static final String OPERATION_TAG = "operation";
+	private static final String STEP_TAG = "step";
+	private static final String CREATE_OPERATION = "create";
+	private static final String BULK_CREATE_OPERATION = "bulk-create";
+	private static final String FIND_OPERATION = "find";
+	private static final String FIND_BY_ID_OPERATION = "find-by-id";
+	private static final String DELETE_OPERATION = "delete";
+	private static final String BULK_DELETE_OPERATION = "bulk-delete";
 
 	private final PlanetProperties properties;
 	private final PlanetRepository planetRepository;
 	private final StarWarsIntegration starWarsIntegration;
+	private final MeterRegistry meterRegistry;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public PlanetService(
-			PlanetProperties properties, PlanetRepository planetRepository, StarWarsIntegration starWarsIntegration) {
+			PlanetProperties properties, PlanetRepository planetRepository, StarWarsIntegration starWarsIntegration,
+			MeterRegistry meterRegistry, ApplicationEventPublisher eventPublisher) {
 		this.properties = properties;
 		this.planetRepository = planetRepository;
 		this.starWarsIntegration = starWarsIntegration;
+		this.meterRegistry = meterRegistry;
+		this.eventPublisher = eventPublisher;
 	}
 
 	public Planet createPlanet(Planet planet) {
-		checkIfPlanetNameAlreadyExists(planet.getName());
 		setPlanetBasicInformation(planet);
+		recordStep(CREATE_OPERATION, ENRICHMENT_STEP, () -> setPlanetFilmAppearances(planet));
+
+		log.debug("Saving Planet...");
+		final Planet createdPlanet;
+		try {
+			createdPlanet = recordStep(CREATE_OPERATION, MONGO_STEP, () -> planetRepository.insert(planet));
+		} catch (DuplicateKeyException e) {
+			throw new ConflictException(String.format("Planet with name %s already exist", planet.getName()));
+		}
+		incrementCollectionVersion(CREATE_OPERATION);
 
-		log.info("Saving Planet...");
-		return planetRepository.save(planet);
+		eventPublisher.publishEvent(PlanetsCreatedEvent.of(List.of(createdPlanet)));
+		return createdPlanet;
 	}
 
-	public Map<Planet, Integer> findPlanetsWithFilmAppearances(String name) {
-		log.info("Find planets with film appearances");
-		List<Planet> foundPlanets;
+	public List<BulkCreateResult> createPlanets(List<Planet> planets) {
+		checkBulkSize(planets.size());
+		if (planets.isEmpty()) {
+			return List.of();
+		}
 
-		if (name == null || name.isEmpty()) {
-			log.info("Finding all planets");
-			foundPlanets = planetRepository.findAll();
-		} else {
-			log.info("Find planets with param name [{}]", name);
-			foundPlanets = planetRepository.findByNameIgnoreCase(name)
+		planets.forEach(this::setPlanetBasicInformation);
+		recordStep(BULK_CREATE_OPERATION, ENRICHMENT_STEP, () -> setPlanetsFilmAppearances(planets));
+
+		log.debug("Saving {} planets...", planets.size());
+		final var duplicatedIndexes = recordStep(BULK_CREATE_OPERATION, MONGO_STEP,
+				() -> planetRepository.insertIgnoringDuplicates(planets));
+		if (duplicatedIndexes.size() < planets.size()) {
+			incrementCollectionVersion(BULK_CREATE_OPERATION);
+			eventPublisher.publishEvent(PlanetsCreatedEvent.of(IntStream.range(0, planets.size())
+					.filter(x -> !duplicatedIndexes.contains(x))
+					.mapToObj(planets::get)
+					.collect(Collectors.toUnmodifiableList())));
+		}
+		return IntStream.range(0, planets.size())
+				.mapToObj(x -> new BulkCreateResult(planets.get(x),
+						duplicatedIndexes.contains(x) ? BulkOperationStatus.CONFLICT : BulkOperationStatus.CREATED))
+				.collect(Collectors.toUnmodifiableList());
+	}
+
+	public PlanetPage findPlanetsWithFilmAppearances(String name, Integer page, Integer size, String cursor) {
+		log.debug("Find planets with film appearances");
+
+		if (name != null && !name.isEmpty()) {
+			log.debug("Find planets with param name [{}]", name);
+			return new PlanetPage(recordStep(FIND_OPERATION, MONGO_STEP,
+							() -> planetRepository.findByNormalizedName(normalizeName(name)))
 					.map(List::of)
-					.orElseGet(Collections::emptyList);
+					.orElseGet(Collections::emptyList), null);
 		}
 
-		return foundPlanets.stream()
-				.parallel()
-				.map(this::findFilmAppearancesByPlanet)
-				.collect(Collectors.toUnmodifiableMap(Entry::getKey, Entry::getValue));
+		if (page != null && cursor != null) {
+			throw new IllegalArgumentException("Use either page or cursor to paginate planets");
+		}
+
+		final var lastId = cursor == null ? null : decodeCursor(cursor);
+		final var pageRequest = getPageRequest(page, size, properties);
+		Slice<PlanetSummary> foundPlanets;
+
+		if (lastId == null) {
+			log.debug("Finding planets page [{}]", pageRequest.getPageNumber());
+			foundPlanets = recordStep(FIND_OPERATION, MONGO_STEP, () -> planetRepository.findAllBy(pageRequest));
+		} else {
+			log.debug("Finding planets after id [{}]", lastId);
+			foundPlanets = recordStep(FIND_OPERATION, MONGO_STEP,
+					() -> planetRepository.findByIdGreaterThan(lastId, pageRequest));
+		}
+
+		final var planets = foundPlanets.getContent();
+		final var nextCursor = foundPlanets.hasNext() ? encodeCursor(planets.get(planets.size() - 1)
+				.id()) : null;
+		return new PlanetPage(planets, nextCursor);
 	}
 
-	public Entry<Planet, Integer> findPlanetWithFilmAppearancesById(String id) {
-		log.info("Searching planet uuid");
-		return planetRepository.findByUuid(id)
-				.map(this::findFilmAppearancesByPlanet)
+	public Optional<PlanetCollectionVersion> findCollectionVersion() {
+		return recordStep(FIND_OPERATION, MONGO_STEP, planetRepository::findCollectionVersion);
+	}
+
+	public void exportPlanets(Consumer<List<PlanetSummary>> windowConsumer) {
+		log.debug("Exporting planets");
+		final var windowSize = properties.getExportWindowSize();
+		final var window = new ArrayList<PlanetSummary>(windowSize);
+
+		try (final var planets = planetRepository.streamAllBy()) {
+			planets.forEach(x -> {
+				window.add(x);
+				if (window.size() == windowSize) {
+					windowConsumer.accept(List.copyOf(window));
+					window.clear();
+				}
+			});
+		}
+
+		if (!window.isEmpty()) {
+			windowConsumer.accept(List.copyOf(window));
+		}
+	}
+
+	public PlanetSummary findPlanetWithFilmAppearancesById(String id) {
+		log.debug("Searching planet uuid");
+		return recordStep(FIND_BY_ID_OPERATION, MONGO_STEP,
+						() -> planetRepository.findByUuid(id, PlanetSummary.class))
 				.orElseThrow(() -> new DataNotFoundException("Planet not found"));
 	}
 
 	public void deletePlanetById(String planetId) {
-		log.info("Searching planet uuid");
-		final var foundPlanet = planetRepository.findByUuid(planetId)
+		log.debug("Searching planet uuid");
+		final var foundPlanet = recordStep(DELETE_OPERATION, MONGO_STEP,
+						() -> planetRepository.findByUuid(planetId))
 				.orElseThrow(() -> new DataNotFoundException("Planet not found"));
 
-		log.info("Planet found, deleting...");
-		planetRepository.delete(foundPlanet);
+		log.debug("Planet found, deleting...");
+		recordStep(DELETE_OPERATION, MONGO_STEP, () -> planetRepository.delete(foundPlanet));
+		incrementCollectionVersion(DELETE_OPERATION);
+		eventPublisher.publishEvent(PlanetsDeletedEvent.of(List.of(foundPlanet)));
 	}
 
-	private Entry<Planet, Integer> findFilmAppearancesByPlanet(Planet planet) {
-		log.info("Searching planet in SW API with name [{}]", planet.getName());
-		return starWarsIntegration.findOnePlanetByName(planet.getName())
-				.map(y -> Map.entry(planet, y.filmAppearances()))
-				.orElseGet(() -> Map.entry(planet, ZERO_APPEARANCES));
+	public Set<String> deletePlanetsById(List<String> planetIds) {
+		checkBulkSize(planetIds.size());
+		final var uuids = planetIds.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		if (uuids.isEmpty()) {
+			return Set.of();
+		}
+
+		log.debug("Deleting {} planets...", uuids.size());
+		final var deletedPlanets = recordStep(BULK_DELETE_OPERATION, MONGO_STEP,
+				() -> planetRepository.deleteByUuidIn(uuids));
+		if (!deletedPlanets.isEmpty()) {
+			incrementCollectionVersion(BULK_DELETE_OPERATION);
+			eventPublisher.publishEvent(PlanetsDeletedEvent.of(deletedPlanets));
+		}
+		return deletedPlanets.stream()
+				.map(Planet::getUuid)
+				.collect(Collectors.toSet());
 	}
 
-	private void checkIfPlanetNameAlreadyExists(String name) {
-		log.info("Checking if planet name [{}] already exists", name);
-		planetRepository.findByNameIgnoreCase(name)
-				.ifPresent(x -> {
-					throw new ConflictException(String.format("Planet with name %s already exist", name));
-				});
+	private void setPlanetsFilmAppearances(List<Planet> planets) {
+		log.debug("Searching {} planets in SW API", planets.size());
+		try {
+			final var foundPlanetsIntegration = starWarsIntegration.findPlanetsByNames(planets.stream()
+					.map(Planet::getName)
+					.collect(Collectors.toSet()));
+			final var syncedAt = LocalDateTime.now();
+			planets.forEach(x -> {
+				x.setFilmAppearances(Optional.ofNullable(foundPlanetsIntegration.get(x.getNormalizedName()))
+						.map(FoundPlanetIntegration::filmAppearances)
+						.orElse(ZERO_APPEARANCES));
+				x.setFilmAppearancesSyncedAt(syncedAt);
+			});
+		} catch (IntegrationException e) {
+			log.warn("Could not find film appearances of {} planets, they will be synced later", planets.size());
+		}
+	}
+
+	private <T> T recordStep(String operation, String step, Supplier<T> action) {
+		final var start = System.nanoTime();
+		try {
+			return action.get();
+		} finally {
+			final var duration = System.nanoTime() - start;
+			meterRegistry.timer(PLANET_OPERATIONS_METRIC, OPERATION_TAG, operation, STEP_TAG, step)
+					.record(duration, TimeUnit.NANOSECONDS);
+			RequestTimings.record(step, duration);
+		}
+	}
+
+	private void recordStep(String operation, String step, Runnable action) {
+		recordStep(operation, step, () -> {
+			action.run();
+			return null;
+		});
+	}
+
+	// The write is already committed, so a failed bump must not fail it; the list ETag still moves with the planet
+	// count and the newest planet id
+	private void incrementCollectionVersion(String operation) {
+		try {
+			recordStep(operation, MONGO_STEP, planetRepository::incrementCollectionVersion);
+		} catch (RuntimeException e) {
+			log.warn("Could not increment planets collection version after {}", operation, e);
+		}
+	}
+
+	private void checkBulkSize(int size) {
+		if (size > properties.getBulkMaxSize()) {
+			throw new IllegalArgumentException(
+					String.format("Bulk operations accept at most %d planets", properties.getBulkMaxSize()));
+		}
+	}
+
+	private void setPlanetFilmAppearances(Planet planet) {
+		log.debug("Searching planet in SW API with name [{}]", planet.getName());
+		try {
+			planet.setFilmAppearances(starWarsIntegration.findOnePlanetByName(planet.getName())
+					.map(FoundPlanetIntegration::filmAppearances)
+					.orElse(ZERO_APPEARANCES));
+			planet.setFilmAppearancesSyncedAt(LocalDateTime.now());
+		} catch (IntegrationException e) {
+			log.warn("Could not find film appearances of planet [{}], it will be synced later", planet.getName());
+		}
 	}
 
 	private void setPlanetBasicInformation(Planet planet) {
-		log.info("Setting planet basic information...");
+		log.debug("Setting planet basic information...");
 		planet.setCreateAt(LocalDateTime.now());
 		planet.setCreatedBy(properties.getApplicationName());
+		planet.setNormalizedName(normalizeName(planet.getName()));
 		planet.setUuid(UUID.randomUUID()
 				.toString());
 	}
@@ -0,0 +1,169 @@
+package com.starwars.planets.service;
+
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.dto.FoundPlanetIntegration;
+import com.starwars.planets.dto.PlanetPage;
+import com.starwars.planets.dto.PlanetSummary;
+import com.starwars.planets.event.PlanetsCreatedEvent;
+import com.starwars.planets.event.PlanetsDeletedEvent;
+import com.starwars.planets.exception.ConflictException;
+import com.starwars.planets.exception.DataNotFoundException;
+import com.starwars.planets.exception.IntegrationException;
+import com.starwars.planets.model.Planet;
+import com.starwars.planets.repository.ReactivePlanetRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.starwars.planets.model.Planet.normalizeName;
+import static com.starwars.planets.service.PlanetPagination.decodeCursor;
+import static com.starwars.planets.service.PlanetPagination.encodeCursor;
+import static com.starwars.planets.service.PlanetPagination.getPageRequest;
+import static com.starwars.planets.service.PlanetService.ZERO_APPEARANCES;
+
+@Service
+@Log4j2
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePlanetService {
+
+	private static final String CREATE_OPERATION = "create";
+	private static final String DELETE_OPERATION = "delete";
+
+	private final PlanetProperties properties;
+	private final ReactivePlanetRepository planetRepository;
+	private final ReactiveStarWarsIntegration starWarsIntegration;
+	private final ApplicationEventPublisher eventPublisher;
+
+	public ReactivePlanetService(
+			PlanetProperties properties, ReactivePlanetRepository planetRepository,
+			ReactiveStarWarsIntegration starWarsIntegration, ApplicationEventPublisher eventPublisher) {
+		this.properties = properties;
+		this.planetRepository = planetRepository;
+		this.starWarsIntegration = starWarsIntegration;
+		this.eventPublisher = eventPublisher;
+	}
+
+	public Mono<Planet> createPlanet(Planet planet) {
+		return Mono.defer(() -> {
+					setPlanetBasicInformation(planet);
+					return setPlanetFilmAppearances(planet);
+				})
+				.flatMap(x -> {
+					log.debug("Saving Planet...");
+					return planetRepository.insert(x);
+				})
+				.onErrorMap(DuplicateKeyException.class,
+						e -> new ConflictException(String.format("Planet with name %s already exist", planet.getName())))
+				.flatMap(x -> incrementCollectionVersion(CREATE_OPERATION).thenReturn(x))
+				.doOnNext(x -> eventPublisher.publishEvent(PlanetsCreatedEvent.of(List.of(x))));
+	}
+
+	public Mono<PlanetPage> findPlanetsWithFilmAppearances(String name, Integer page, Integer size, String cursor) {
+		log.debug("Find planets with film appearances");
+
+		if (name != null && !name.isEmpty()) {
+			log.debug("Find planets with param name [{}]", name);
+			return planetRepository.findByNormalizedName(normalizeName(name))
+					.map(List::of)
+					.defaultIfEmpty(List.of())
+					.map(x -> new PlanetPage(x, null));
+		}
+
+		if (page != null && cursor != null) {
+			return Mono.error(new IllegalArgumentException("Use either page or cursor to paginate planets"));
+		}
+
+		return Mono.fromCallable(() -> getPageRequest(page, size, properties))
+				.flatMap(pageRequest -> cursor == null ? findFirstPlanets(pageRequest) : findPlanetsAfter(
+						decodeCursor(cursor), pageRequest));
+	}
+
+	public Flux<PlanetSummary> exportPlanets() {
+		log.debug("Exporting planets");
+		return planetRepository.findAllBy();
+	}
+
+	public Mono<PlanetSummary> findPlanetWithFilmAppearancesById(String id) {
+		log.debug("Searching planet uuid");
+		return planetRepository.findByUuid(id, PlanetSummary.class)
+				.switchIfEmpty(Mono.error(() -> new DataNotFoundException("Planet not found")));
+	}
+
+	public Mono<Void> deletePlanetById(String planetId) {
+		log.debug("Searching planet uuid");
+		return planetRepository.findByUuid(planetId)
+				.switchIfEmpty(Mono.error(() -> new DataNotFoundException("Planet not found")))
+				.flatMap(x -> {
+					log.debug("Planet found, deleting...");
+					return planetRepository.delete(x)
+							.then(incrementCollectionVersion(DELETE_OPERATION))
+							.doOnSuccess(y -> eventPublisher.publishEvent(PlanetsDeletedEvent.of(List.of(x))));
+				});
+	}
+
+	private Mono<PlanetPage> findFirstPlanets(PageRequest pageRequest) {
+		log.debug("Finding planets page [{}]", pageRequest.getPageNumber());
+		return toPlanetPage(planetRepository.findAllBy(pageRequest), pageRequest.getPageSize());
+	}
+
+	private Mono<PlanetPage> findPlanetsAfter(String lastId, PageRequest pageRequest) {
+		log.debug("Finding planets after id [{}]", lastId);
+		return toPlanetPage(planetRepository.findByIdGreaterThan(lastId, pageRequest), pageRequest.getPageSize());
+	}
+
+	private Mono<PlanetPage> toPlanetPage(Flux<PlanetSummary> foundPlanets, int pageSize) {
+		return foundPlanets.collectList()
+				.flatMap(planets -> {
+					if (planets.size() < pageSize) {
+						return Mono.just(new PlanetPage(planets, null));
+					}
+					final var lastId = planets.get(planets.size() - 1)
+							.id();
+					return planetRepository.existsByIdGreaterThan(lastId)
+							.map(hasNext -> new PlanetPage(planets, hasNext ? encodeCursor(lastId) : null));
+				});
+	}
+
+	private Mono<Planet> setPlanetFilmAppearances(Planet planet) {
+		log.debug("Searching planet in SW API with name [{}]", planet.getName());
+		return starWarsIntegration.findOnePlanetByName(planet.getName())
+				.map(FoundPlanetIntegration::filmAppearances)
+				.defaultIfEmpty(ZERO_APPEARANCES)
+				.map(x -> {
+					planet.setFilmAppearances(x);
+					planet.setFilmAppearancesSyncedAt(LocalDateTime.now());
+					return planet;
+				})
+				.onErrorResume(IntegrationException.class, e -> {
+					log.warn("Could not find film appearances of planet [{}], it will be synced later", planet.getName());
+					return Mono.just(planet);
+				});
+	}
+
+	// Same as PlanetService: the write is already committed, so a failed bump is only logged
+	private Mono<Void> incrementCollectionVersion(String operation) {
+		return planetRepository.incrementCollectionVersion()
+				.onErrorResume(RuntimeException.class, e -> {
+					log.warn("Could not increment planets collection version after {}", operation, e);
+					return Mono.empty();
+				});
+	}
+
+	private void setPlanetBasicInformation(Planet planet) {
+		log.debug("Setting planet basic information...");
+		planet.setCreateAt(LocalDateTime.now());
+		planet.setCreatedBy(properties.getApplicationName());
+		planet.setNormalizedName(normalizeName(planet.getName()));
+		planet.setUuid(UUID.randomUUID()
+				.toString());
+	}
+}
@@ -0,0 +1,75 @@
+package com.starwars.planets.service;
+
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.dto.FoundPlanetIntegration;
+import com.starwars.planets.exception.IntegrationException;
+import com.starwars.planets.service.client.response.SwClientFindPlanet;
+import io.netty.channel.ChannelOption;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import static com.starwars.planets.model.Planet.normalizeName;
+
+@Component
+@Log4j2
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveStarWarsIntegration {
+
+	private static final String SW_CLIENT = "sw-client";
+
+	private final WebClient webClient;
+
+	public ReactiveStarWarsIntegration(
+			PlanetProperties properties, WebClient.Builder webClientBuilder,
+			@Value("${sw.api.url}") String swApiUrl) {
+		final var connectionProvider = ConnectionProvider.builder(SW_CLIENT)
+				.maxConnections(properties.getSwApiReactiveMaxConnections())
+				.pendingAcquireMaxCount(properties.getSwApiReactivePendingAcquireMaxCount())
+				.build();
+		this.webClient = webClientBuilder.baseUrl(swApiUrl)
+				.clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)
+						.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getSwApiClientConnectTimeout()
+								.toMillis())
+						.responseTimeout(properties.getSwApiClientReadTimeout())))
+				.build();
+	}
+
+	public Mono<FoundPlanetIntegration> findOnePlanetByName(String name) {
+		log.debug("Calling SW API");
+		return webClient.get()
+				.uri(uriBuilder -> uriBuilder.path("planets/")
+						.queryParam("search", name)
+						.build())
+				.accept(MediaType.APPLICATION_JSON)
+				.retrieve()
+				.bodyToMono(SwClientFindPlanet.class)
+				.flatMap(body -> {
+					if (body.count() > 1) {
+						log.warn("Found more than one planet with name: [{}]", name);
+					}
+					return Mono.justOrEmpty(body.results()
+							.stream()
+							.filter(x -> normalizeName(x.name()).equals(normalizeName(name)))
+							.findFirst());
+				})
+				.map(x -> new FoundPlanetIntegration(x.name(), x.films()
+						.size()))
+				.onErrorMap(WebClientException.class, e -> {
+					log.error(e);
+					return new IntegrationException("Error contacting Star Wars API");
+				})
+				.onErrorMap(NullPointerException.class, e -> {
+					log.error(e);
+					return new IntegrationException("Error parsing content from Star Wars API");
+				});
+	}
+}
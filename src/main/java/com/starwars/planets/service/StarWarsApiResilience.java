@@ -0,0 +1,37 @@
+package com.starwars.planets.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+@Component
+public class StarWarsApiResilience {
+
+	public static final String SW_API_INSTANCE = "sw-api";
+
+	private final Bulkhead bulkhead;
+	private final CircuitBreaker circuitBreaker;
+	private final Retry retry;
+
+	public StarWarsApiResilience(
+			BulkheadRegistry bulkheadRegistry, CircuitBreakerRegistry circuitBreakerRegistry,
+			RetryRegistry retryRegistry) {
+		this.bulkhead = bulkheadRegistry.bulkhead(SW_API_INSTANCE);
+		this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(SW_API_INSTANCE);
+		this.retry = retryRegistry.retry(SW_API_INSTANCE);
+	}
+
+	// Retries wrap the circuit breaker so every attempt is recorded, and the bulkhead is innermost so a waiting
+	// retry does not hold a permit
+	public <T> T execute(Supplier<T> call) {
+		return Retry.decorateSupplier(retry,
+						CircuitBreaker.decorateSupplier(circuitBreaker, Bulkhead.decorateSupplier(bulkhead, call)))
+				.get();
+	}
+}
@@ -0,0 +1,84 @@
+package com.starwars.planets.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.dto.StarWarsCatalog;
+import com.starwars.planets.exception.IntegrationException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+@Component
+@Log4j2
+@ConditionalOnProperty(value = "sw.api.catalog.enabled", havingValue = "true")
+public class StarWarsCatalogRefresher implements ApplicationRunner {
+
+	private final PlanetProperties properties;
+	private final StarWarsIntegration starWarsIntegration;
+	private final ObjectMapper objectMapper;
+
+	public StarWarsCatalogRefresher(
+			PlanetProperties properties, StarWarsIntegration starWarsIntegration, ObjectMapper objectMapper) {
+		this.properties = properties;
+		this.starWarsIntegration = starWarsIntegration;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		loadSnapshot();
+		refreshCatalog();
+	}
+
+	@Scheduled(initialDelayString = "${sw.api.catalog.refresh-delay}",
+			fixedDelayString = "${sw.api.catalog.refresh-delay}")
+	public void refreshCatalog() {
+		try {
+			final var catalog = starWarsIntegration.fetchCatalog();
+			starWarsIntegration.useCatalog(catalog);
+			writeSnapshot(catalog);
+		} catch (IntegrationException e) {
+			log.error("Error refreshing SW API catalog, keeping the current one", e);
+		}
+	}
+
+	private void loadSnapshot() {
+		final var snapshotPath = properties.getSwApiCatalogSnapshotPath();
+		if (!Files.isRegularFile(snapshotPath)) {
+			log.info("No SW API catalog snapshot found on [{}]", snapshotPath);
+			return;
+		}
+
+		try {
+			starWarsIntegration.useCatalog(objectMapper.readValue(snapshotPath.toFile(), StarWarsCatalog.class));
+		} catch (IOException e) {
+			log.warn("Could not read SW API catalog snapshot [{}]", snapshotPath, e);
+		}
+	}
+
+	private void writeSnapshot(StarWarsCatalog catalog) {
+		final var snapshotPath = properties.getSwApiCatalogSnapshotPath()
+				.toAbsolutePath();
+		try {
+			Files.createDirectories(snapshotPath.getParent());
+			final var tempPath = Files.createTempFile(snapshotPath.getParent(), snapshotPath.getFileName()
+					.toString(), ".tmp");
+			try {
+				objectMapper.writeValue(tempPath.toFile(), catalog);
+				Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(tempPath);
+			}
+		} catch (IOException e) {
+			log.warn("Could not write SW API catalog snapshot [{}]", snapshotPath, e);
+		}
+	}
+}
@@ -1,50 +1,261 @@
 package com.starwars.planets.service;
 
+import com.starwars.planets.PlanetProperties;
 import com.starwars.planets.dto.FoundPlanetIntegration;
+import com.starwars.planets.dto.StarWarsCatalog;
 import com.starwars.planets.exception.IntegrationException;
+import com.starwars.planets.model.Planet;
 import com.starwars.planets.service.client.StarWarsApiClient;
+import com.starwars.planets.service.client.response.SwClientPlanetPage;
 import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.starwars.planets.config.CacheConfig.SW_FOUND_ONE_PLANET_CACHE;
+import static com.starwars.planets.config.EnrichmentExecutorConfig.ENRICHMENT_EXECUTOR;
+import static com.starwars.planets.model.Planet.normalizeName;
 
 @Component
 @Log4j2
 public class StarWarsIntegration {
 
+	public static final String SW_API_REQUESTS_METRIC = "sw.api.requests";
+	public static final String SW_API_RESULTS_METRIC = "sw.api.results";
+	public static final String SEARCH_OPERATION = "search";
+	public static final String PAGE_OPERATION = "page";
+
+	private static final String OPERATION_TAG = "operation";
+	private static final String STATUS_TAG = "status";
+	private static final String EXCEPTION_TAG = "exception";
+	private static final String UNKNOWN_STATUS = "UNKNOWN";
+	private static final String NO_EXCEPTION = "None";
+	private static final int FIRST_PAGE = 1;
+
+	private final PlanetProperties properties;
 	private final StarWarsApiClient starWarsApiClient;
+	private final Executor enrichmentExecutor;
+	private final StarWarsApiResilience starWarsApiResilience;
+	private final MeterRegistry meterRegistry;
+	private volatile StarWarsCatalog catalog;
 
-	public StarWarsIntegration(StarWarsApiClient starWarsApiClient) {
+	public StarWarsIntegration(
+			PlanetProperties properties, StarWarsApiClient starWarsApiClient,
+			@Qualifier(ENRICHMENT_EXECUTOR) Executor enrichmentExecutor, StarWarsApiResilience starWarsApiResilience,
+			MeterRegistry meterRegistry) {
+		this.properties = properties;
 		this.starWarsApiClient = starWarsApiClient;
+		this.enrichmentExecutor = enrichmentExecutor;
+		this.starWarsApiResilience = starWarsApiResilience;
+		this.meterRegistry = meterRegistry;
 	}
 
-	@Cacheable("sw-foundOnePlanet")
+	@Cacheable(cacheNames = SW_FOUND_ONE_PLANET_CACHE, key = "T(com.starwars.planets.model.Planet).normalizeName(#name)")
 	public Optional<FoundPlanetIntegration> findOnePlanetByName(String name) {
+		return fetchOnePlanetByName(name);
+	}
+
+	public Optional<FoundPlanetIntegration> fetchOnePlanetByName(String name) {
+		final var currentCatalog = catalog;
+		if (currentCatalog != null) {
+			return currentCatalog.find(name);
+		}
 		try {
-			log.info("Calling SW API");
-			final var responseEntity = starWarsApiClient.findPlanetByName(name);
-			log.info("Retrieved code: {}", responseEntity.getStatusCode());
-			final var body = responseEntity.getBody();
+			log.debug("Calling SW API");
+			final var body = callSwApi(SEARCH_OPERATION, () -> starWarsApiClient.findPlanetByName(name));
 
 			if (body.count() > 1) {
 				log.warn("Found more than one planet with name: [{}]", name);
 			}
 
+			recordResults(SEARCH_OPERATION, body.results());
 			return body.results()
 					.stream()
-					.filter(x -> x.name()
-							.equalsIgnoreCase(name))
+					.filter(x -> normalizeName(x.name()).equals(normalizeName(name)))
 					.findFirst()
 					.map(x -> new FoundPlanetIntegration(x.name(), x.films()
 							.size()));
+		} catch (NullPointerException e) {
+			log.error(e);
+			throw new IntegrationException("Error parsing content from Star Wars API");
+		}
+	}
+
+	public Map<String, FoundPlanetIntegration> findPlanetsByNames(Collection<String> names) {
+		final var pendingNames = names.stream()
+				.filter(Objects::nonNull)
+				.map(Planet::normalizeName)
+				.collect(Collectors.toCollection(ConcurrentHashMap::newKeySet));
+		final var foundPlanets = new ConcurrentHashMap<String, FoundPlanetIntegration>();
+
+		if (pendingNames.isEmpty()) {
+			return new HashMap<>();
+		}
+
+		final var currentCatalog = catalog;
+		if (currentCatalog != null) {
+			pendingNames.forEach(x -> currentCatalog.find(x)
+					.ifPresent(y -> foundPlanets.put(x, y)));
+			return new HashMap<>(foundPlanets);
+		}
+
+		try {
+			final var firstPage = fetchPlanetsPage(FIRST_PAGE);
+			collectFoundPlanets(firstPage, pendingNames, foundPlanets);
+
+			// Pages still queued once every name is found skip the call; the ones in flight are still waited for
+			if (!pendingNames.isEmpty() && firstPage.next() != null) {
+				final var lastPage = Math.min(getLastPage(firstPage), properties.getSwApiMaxPages());
+				IntStream.rangeClosed(FIRST_PAGE + 1, lastPage)
+						.mapToObj(page -> CompletableFuture.runAsync(() -> {
+							if (!pendingNames.isEmpty()) {
+								collectFoundPlanets(fetchPlanetsPage(page), pendingNames, foundPlanets);
+							}
+						}, enrichmentExecutor))
+						.collect(Collectors.toList())
+						.forEach(this::join);
+			}
+		} catch (NullPointerException e) {
+			log.error(e);
+			throw new IntegrationException("Error parsing content from Star Wars API");
+		}
+
+		if (!pendingNames.isEmpty()) {
+			log.debug("Planets not found in SW API: {}", pendingNames);
+		}
+		return new HashMap<>(foundPlanets);
+	}
+
+	public StarWarsCatalog fetchCatalog() {
+		try {
+			final var firstPage = fetchPlanetsPage(FIRST_PAGE);
+			final var pages = new ArrayList<SwClientPlanetPage>();
+			pages.add(firstPage);
+
+			if (firstPage.next() != null) {
+				IntStream.rangeClosed(FIRST_PAGE + 1, getLastPage(firstPage))
+						.mapToObj(page -> CompletableFuture.supplyAsync(() -> fetchPlanetsPage(page), enrichmentExecutor))
+						.collect(Collectors.toList())
+						.forEach(x -> pages.add(join(x)));
+			}
+
+			final var planets = pages.stream()
+					.flatMap(x -> x.results()
+							.stream())
+					.collect(Collectors.toMap(x -> normalizeName(x.name()),
+							x -> new FoundPlanetIntegration(x.name(), x.films()
+									.size()), (x, y) -> x));
+			if (planets.size() < firstPage.count()) {
+				log.warn("SW API catalog has {} planets but {} were loaded", firstPage.count(), planets.size());
+			}
+			return new StarWarsCatalog(planets, Instant.now());
+		} catch (NullPointerException e) {
+			log.error(e);
+			throw new IntegrationException("Error parsing content from Star Wars API");
+		}
+	}
+
+	public void useCatalog(StarWarsCatalog catalog) {
+		log.info("Answering SW API lookups from a catalog of {} planets loaded at {}", catalog.planets()
+				.size(), catalog.loadedAt());
+		this.catalog = catalog;
+	}
+
+	private SwClientPlanetPage fetchPlanetsPage(int page) {
+		log.debug("Calling SW API for planets page {}", page);
+		final var planetsPage = callSwApi(PAGE_OPERATION, () -> starWarsApiClient.findPlanetsPage(page));
+		recordResults(PAGE_OPERATION, planetsPage.results());
+		return planetsPage;
+	}
+
+	private <T> T callSwApi(String operation, Supplier<ResponseEntity<T>> call) {
+		final var sample = Timer.start(meterRegistry);
+		var status = UNKNOWN_STATUS;
+		var exception = NO_EXCEPTION;
+		try {
+			final var responseEntity = starWarsApiResilience.execute(call);
+			status = String.valueOf(responseEntity.getStatusCodeValue());
+			log.debug("Retrieved code: {}", responseEntity.getStatusCode());
+			return Objects.requireNonNull(responseEntity.getBody());
 		} catch (FeignException e) {
+			status = String.valueOf(e.status());
+			exception = e.getClass()
+					.getSimpleName();
 			log.error(e);
 			throw new IntegrationException("Error contacting Star Wars API");
+		} catch (CallNotPermittedException | BulkheadFullException e) {
+			exception = e.getClass()
+					.getSimpleName();
+			log.warn("Call to Star Wars API rejected: {}", e.getMessage());
+			throw new IntegrationException("Star Wars API is unavailable");
 		} catch (NullPointerException e) {
+			exception = e.getClass()
+					.getSimpleName();
 			log.error(e);
 			throw new IntegrationException("Error parsing content from Star Wars API");
+		} finally {
+			sample.stop(meterRegistry.timer(SW_API_REQUESTS_METRIC, OPERATION_TAG, operation, STATUS_TAG, status,
+					EXCEPTION_TAG, exception));
 		}
 	}
+
+	private void recordResults(String operation, Collection<?> results) {
+		meterRegistry.summary(SW_API_RESULTS_METRIC, OPERATION_TAG, operation)
+				.record(results == null ? 0 : results.size());
+	}
+
+	private <T> T join(CompletableFuture<T> page) {
+		try {
+			return page.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof IntegrationException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof NullPointerException cause) {
+				throw cause;
+			}
+			throw new IntegrationException("Error contacting Star Wars API");
+		}
+	}
+
+	private void collectFoundPlanets(
+			SwClientPlanetPage page, Set<String> pendingNames, Map<String, FoundPlanetIntegration> foundPlanets) {
+		// A name leaves pendingNames only after it is in foundPlanets, so an empty pendingNames means all were found
+		page.results()
+				.stream()
+				.filter(x -> pendingNames.contains(normalizeName(x.name())))
+				.forEach(x -> {
+					foundPlanets.putIfAbsent(normalizeName(x.name()), new FoundPlanetIntegration(x.name(), x.films()
+							.size()));
+					pendingNames.remove(normalizeName(x.name()));
+				});
+	}
+
+	private int getLastPage(SwClientPlanetPage firstPage) {
+		final var pageSize = Math.max(firstPage.results()
+				.size(), 1);
+		return (firstPage.count() + pageSize - 1) / pageSize;
+	}
 }
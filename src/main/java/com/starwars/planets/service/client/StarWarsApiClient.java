@@ -1,16 +1,24 @@
 package com.starwars.planets.service.client;
 
 import com.starwars.planets.service.client.response.SwClientFindPlanet;
+import com.starwars.planets.service.client.response.SwClientPlanetPage;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(url = "${sw.api.url}", name = "sw-client")
+import static com.starwars.planets.config.SwApiClientConfig.SW_API_CLIENT;
+
+@FeignClient(url = "${sw.api.url}", name = SW_API_CLIENT)
 public interface StarWarsApiClient {
 
 	@GetMapping(value = "/planets/", produces = "application/json")
 	ResponseEntity<SwClientFindPlanet> findPlanetByName(
 			@RequestParam(value = "search")
 					String name);
+
+	@GetMapping(value = "/planets/", produces = "application/json")
+	ResponseEntity<SwClientPlanetPage> findPlanetsPage(
+			@RequestParam(value = "page")
+					Integer page);
 }
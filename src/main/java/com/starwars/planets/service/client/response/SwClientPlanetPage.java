@@ -0,0 +1,6 @@
+package com.starwars.planets.service.client.response;
+
+import java.util.Set;
+
+public record SwClientPlanetPage(Integer count, String next, Set<SwClientFindPlanetResult> results) {
+}
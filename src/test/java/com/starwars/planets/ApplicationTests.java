@@ -3,7 +3,7 @@ package com.starwars.planets;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.data.mongodb.auto-index-creation=false")
 class ApplicationTests {
 
 	@Test
@@ -0,0 +1,218 @@
+package com.starwars.planets.config;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.config.FoundPlanetCodec.Entry;
+import com.starwars.planets.dto.FoundPlanetIntegration;
+import com.starwars.planets.service.StarWarsIntegration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.starwars.planets.config.CacheConfig.SW_FOUND_ONE_PLANET_CACHE;
+import static com.starwars.planets.config.FoundPlanetCodec.encode;
+import static com.starwars.planets.utils.TestUtils.getRandomInteger;
+import static com.starwars.planets.utils.TestUtils.getRandomString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheConfigTest {
+
+	@Mock
+	private PlanetProperties propertiesMock;
+
+	@Mock
+	private ObjectProvider<StarWarsIntegration> starWarsIntegrationProviderMock;
+
+	@Mock
+	private StarWarsIntegration starWarsIntegrationMock;
+
+	@Mock
+	private ObjectProvider<SharedCacheStore> sharedCacheStoreProviderMock;
+
+	@Mock
+	private SharedCacheStore sharedCacheStoreMock;
+
+	private Cache cache;
+
+	@BeforeEach
+	public void setUp() {
+		when(propertiesMock.getSwCacheMaximumSize()).thenReturn(100L);
+		when(propertiesMock.getSwCacheExpireAfterWrite()).thenReturn(Duration.ofHours(1));
+		when(propertiesMock.getSwCacheNegativeExpireAfterWrite()).thenReturn(Duration.ofMinutes(1));
+		when(propertiesMock.getSwCacheRefreshAfterWrite()).thenReturn(Duration.ofMinutes(30));
+
+		cache = createCache();
+	}
+
+	private Cache createCache() {
+		return new CacheConfig().cacheManager(propertiesMock, starWarsIntegrationProviderMock,
+						sharedCacheStoreProviderMock)
+				.getCache(SW_FOUND_ONE_PLANET_CACHE);
+	}
+
+	@Test
+	public void foundOnePlanetCache_shouldLoadAndCacheFoundPlanet() {
+		final var planetName = getRandomString();
+		final var foundPlanetIntegration = new FoundPlanetIntegration(planetName, getRandomInteger());
+		when(starWarsIntegrationProviderMock.getObject()).thenReturn(starWarsIntegrationMock);
+		when(starWarsIntegrationMock.fetchOnePlanetByName(planetName)).thenReturn(Optional.of(foundPlanetIntegration));
+
+		assertEquals(foundPlanetIntegration, cache.get(planetName)
+				.get());
+		assertEquals(foundPlanetIntegration, cache.get(planetName)
+				.get());
+
+		verify(starWarsIntegrationMock, times(1)).fetchOnePlanetByName(planetName);
+	}
+
+	@Test
+	public void foundOnePlanetCache_shouldCacheNotFoundPlanet() {
+		final var planetName = getRandomString();
+		when(starWarsIntegrationProviderMock.getObject()).thenReturn(starWarsIntegrationMock);
+		when(starWarsIntegrationMock.fetchOnePlanetByName(planetName)).thenReturn(Optional.empty());
+
+		final var firstResult = cache.get(planetName);
+		final var secondResult = cache.get(planetName);
+
+		assertNotNull(firstResult);
+		assertNull(firstResult.get());
+		assertNotNull(secondResult);
+		assertNull(secondResult.get());
+
+		verify(starWarsIntegrationMock, times(1)).fetchOnePlanetByName(planetName);
+	}
+
+	@Test
+	public void foundOnePlanetCache_shouldShareLoadedPlanetWithOtherInstances() {
+		final var planetName = getRandomString();
+		final var foundPlanetIntegration = new FoundPlanetIntegration(planetName, getRandomInteger());
+		when(sharedCacheStoreProviderMock.getIfAvailable()).thenReturn(new LocalSharedCacheStore());
+		when(starWarsIntegrationProviderMock.getObject()).thenReturn(starWarsIntegrationMock);
+		when(starWarsIntegrationMock.fetchOnePlanetByName(planetName)).thenReturn(Optional.of(foundPlanetIntegration));
+
+		final var firstInstanceCache = createCache();
+		final var secondInstanceCache = createCache();
+
+		assertEquals(foundPlanetIntegration, firstInstanceCache.get(planetName)
+				.get());
+		assertEquals(foundPlanetIntegration, secondInstanceCache.get(planetName)
+				.get());
+
+		verify(starWarsIntegrationMock, times(1)).fetchOnePlanetByName(planetName);
+	}
+
+	@Test
+	public void foundOnePlanetCache_shouldShareNotFoundPlanetWithNegativeTimeToLive() {
+		final var planetName = getRandomString();
+		when(sharedCacheStoreProviderMock.getIfAvailable()).thenReturn(sharedCacheStoreMock);
+		when(sharedCacheStoreMock.get(SW_FOUND_ONE_PLANET_CACHE, planetName)).thenReturn(Optional.empty());
+		when(starWarsIntegrationProviderMock.getObject()).thenReturn(starWarsIntegrationMock);
+		when(starWarsIntegrationMock.fetchOnePlanetByName(planetName)).thenReturn(Optional.empty());
+
+		assertNull(createCache().get(planetName)
+				.get());
+
+		verify(sharedCacheStoreMock, times(1)).put(eq(SW_FOUND_ONE_PLANET_CACHE), eq(planetName), any(byte[].class),
+				eq(Duration.ofMinutes(1)));
+	}
+
+	@Test
+	public void foundOnePlanetCache_shouldCallSwApiWhenSharedStoreFails() {
+		final var planetName = getRandomString();
+		final var foundPlanetIntegration = new FoundPlanetIntegration(planetName, getRandomInteger());
+		when(sharedCacheStoreProviderMock.getIfAvailable()).thenReturn(sharedCacheStoreMock);
+		when(sharedCacheStoreMock.get(SW_FOUND_ONE_PLANET_CACHE, planetName)).thenThrow(new IllegalStateException());
+		when(starWarsIntegrationProviderMock.getObject()).thenReturn(starWarsIntegrationMock);
+		when(starWarsIntegrationMock.fetchOnePlanetByName(planetName)).thenReturn(Optional.of(foundPlanetIntegration));
+
+		assertEquals(foundPlanetIntegration, createCache().get(planetName)
+				.get());
+
+		verify(starWarsIntegrationMock, times(1)).fetchOnePlanetByName(planetName);
+	}
+
+	@Test
+	public void foundOnePlanetCache_shouldExpireSharedPlanetWithSharedEntry() {
+		final var planetName = getRandomString();
+		final var foundPlanetIntegration = new FoundPlanetIntegration(planetName, getRandomInteger());
+		when(sharedCacheStoreProviderMock.getIfAvailable()).thenReturn(sharedCacheStoreMock);
+		when(sharedCacheStoreMock.get(SW_FOUND_ONE_PLANET_CACHE, planetName)).thenReturn(
+				Optional.of(encode(new Entry(Optional.of(foundPlanetIntegration), Instant.now()
+						.minus(Duration.ofMinutes(50))))));
+
+		final var sharedCache = createCache();
+
+		assertEquals(foundPlanetIntegration, sharedCache.get(planetName)
+				.get());
+		assertTrue(getNativeCache(sharedCache).policy()
+				.expireVariably()
+				.orElseThrow()
+				.getExpiresAfter(planetName, TimeUnit.MINUTES)
+				.orElseThrow() <= 10);
+
+		verify(starWarsIntegrationProviderMock, never()).getObject();
+	}
+
+	@Test
+	public void foundOnePlanetCache_shouldReuseSharedPlanetRefreshedByOtherInstance() {
+		final var planetName = getRandomString();
+		final var foundPlanetIntegration = new FoundPlanetIntegration(planetName, getRandomInteger());
+		when(sharedCacheStoreProviderMock.getIfAvailable()).thenReturn(sharedCacheStoreMock);
+		when(sharedCacheStoreMock.get(SW_FOUND_ONE_PLANET_CACHE, planetName)).thenReturn(
+				Optional.of(encode(new Entry(Optional.of(foundPlanetIntegration), Instant.now()
+						.minus(Duration.ofMinutes(1))))));
+
+		final var sharedCache = createCache();
+		sharedCache.get(planetName);
+		getNativeCache(sharedCache).refresh(planetName);
+
+		verify(sharedCacheStoreMock, timeout(1000).times(2)).get(SW_FOUND_ONE_PLANET_CACHE, planetName);
+		verify(starWarsIntegrationProviderMock, never()).getObject();
+	}
+
+	@Test
+	public void foundOnePlanetCache_shouldCallSwApiWhenSharedPlanetIsDueForRefresh() {
+		final var planetName = getRandomString();
+		final var foundPlanetIntegration = new FoundPlanetIntegration(planetName, getRandomInteger());
+		when(sharedCacheStoreProviderMock.getIfAvailable()).thenReturn(sharedCacheStoreMock);
+		when(sharedCacheStoreMock.get(SW_FOUND_ONE_PLANET_CACHE, planetName)).thenReturn(
+				Optional.of(encode(new Entry(Optional.of(foundPlanetIntegration), Instant.now()
+						.minus(Duration.ofMinutes(40))))));
+		when(starWarsIntegrationProviderMock.getObject()).thenReturn(starWarsIntegrationMock);
+		when(starWarsIntegrationMock.fetchOnePlanetByName(planetName)).thenReturn(Optional.of(foundPlanetIntegration));
+
+		final var sharedCache = createCache();
+		sharedCache.get(planetName);
+		getNativeCache(sharedCache).refresh(planetName);
+
+		verify(sharedCacheStoreMock, timeout(1000).times(1)).put(eq(SW_FOUND_ONE_PLANET_CACHE), eq(planetName),
+				any(byte[].class), eq(Duration.ofHours(1)));
+		verify(starWarsIntegrationMock, times(1)).fetchOnePlanetByName(planetName);
+	}
+
+	@SuppressWarnings("unchecked")
+	private LoadingCache<Object, Object> getNativeCache(Cache cache) {
+		return (LoadingCache<Object, Object>) ((CaffeineCache) cache).getNativeCache();
+	}
+}
@@ -0,0 +1,123 @@
+package com.starwars.planets.config;
+
+import com.starwars.planets.PlanetProperties;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.starwars.planets.config.LogConfig.CORRELATION_ID_HEADER;
+import static com.starwars.planets.config.LogConfig.CORRELATION_ID_KEY;
+import static com.starwars.planets.utils.TestUtils.getRandomString;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LogConfigTest {
+
+	@Mock
+	private PlanetProperties propertiesMock;
+
+	@Mock
+	private RouteLatencyHistogram routeLatencyHistogramMock;
+
+	@InjectMocks
+	private LogConfig logConfig;
+
+	@BeforeEach
+	public void setUp() {
+		when(propertiesMock.getSlowRequestThreshold()).thenReturn(Duration.ofSeconds(1));
+	}
+
+	@Test
+	public void doFilter_shouldPropagateCorrelationId() throws IOException, ServletException {
+		final var correlationId = getRandomString();
+		final var request = new MockHttpServletRequest("GET", "/api/v1/star-wars/planets");
+		final var response = new MockHttpServletResponse();
+		final var correlationIdInChain = new AtomicReference<String>();
+		request.addHeader(CORRELATION_ID_HEADER, correlationId);
+
+		logConfig.doFilter(request, response,
+				(x, y) -> correlationIdInChain.set(ThreadContext.get(CORRELATION_ID_KEY)));
+
+		assertEquals(correlationId, correlationIdInChain.get());
+		assertEquals(correlationId, response.getHeader(CORRELATION_ID_HEADER));
+		assertNull(ThreadContext.get(CORRELATION_ID_KEY));
+	}
+
+	@Test
+	public void doFilter_shouldGenerateCorrelationIdWhenHeaderIsInvalid() throws IOException, ServletException {
+		final var invalidCorrelationId = "invalid correlation id\n";
+		final var request = new MockHttpServletRequest("GET", "/api/v1/star-wars/planets");
+		final var response = new MockHttpServletResponse();
+		request.addHeader(CORRELATION_ID_HEADER, invalidCorrelationId);
+
+		logConfig.doFilter(request, response, new MockFilterChain());
+
+		final var correlationId = response.getHeader(CORRELATION_ID_HEADER);
+		assertNotEquals(invalidCorrelationId, correlationId);
+		assertDoesNotThrow(() -> UUID.fromString(correlationId));
+	}
+
+	@Test
+	public void doFilter_shouldClearCorrelationIdOnError() {
+		final var request = new MockHttpServletRequest("GET", "/api/v1/star-wars/planets");
+		final var response = new MockHttpServletResponse();
+
+		assertThrows(IllegalStateException.class, () -> logConfig.doFilter(request, response, (x, y) -> {
+			throw new IllegalStateException();
+		}));
+
+		assertNull(ThreadContext.get(CORRELATION_ID_KEY));
+	}
+
+	@Test
+	public void doFilter_shouldRecordRouteLatency() throws IOException, ServletException {
+		final var route = "/api/v1/star-wars/planets/{id}";
+		final var request = new MockHttpServletRequest("GET", "/api/v1/star-wars/planets/" + getRandomString());
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, route);
+
+		logConfig.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+		verify(routeLatencyHistogramMock, times(1)).record(eq(route), anyLong());
+	}
+
+	@Test
+	public void doFilter_shouldRecordAsyncRequestOnceCompleted() throws IOException, ServletException {
+		final var route = "/api/v1/star-wars/planets/export";
+		final var request = new MockHttpServletRequest("GET", route);
+		final var response = new MockHttpServletResponse();
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, route);
+		request.setAsyncSupported(true);
+
+		logConfig.doFilter(request, response, (x, y) -> x.startAsync());
+
+		verify(routeLatencyHistogramMock, times(0)).record(eq(route), anyLong());
+
+		request.getAsyncContext()
+				.complete();
+
+		verify(routeLatencyHistogramMock, times(1)).record(eq(route), anyLong());
+	}
+}
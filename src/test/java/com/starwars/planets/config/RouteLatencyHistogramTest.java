@@ -0,0 +1,87 @@
+package com.starwars.planets.config;
+
+import com.starwars.planets.PlanetProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.starwars.planets.config.RouteLatencyHistogram.UNMAPPED_ROUTE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RouteLatencyHistogramTest {
+
+	private static final String ROUTE = "/api/v1/star-wars/planets/{id}";
+
+	@Mock
+	private PlanetProperties propertiesMock;
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	private RouteLatencyHistogram routeLatencyHistogram;
+
+	@BeforeEach
+	public void setUp() {
+		when(propertiesMock.getLatencyHistogramWindow()).thenReturn(Duration.ofMinutes(1));
+		when(propertiesMock.getLatencyHistogramSlices()).thenReturn(6);
+		nanoTime.set(TimeUnit.HOURS.toNanos(1));
+
+		routeLatencyHistogram = new RouteLatencyHistogram(propertiesMock, nanoTime::get);
+	}
+
+	@Test
+	public void latency_shouldAggregateRequestsPerRoute() {
+		for (int i = 0; i < 98; i++) {
+			routeLatencyHistogram.record(ROUTE, TimeUnit.MILLISECONDS.toNanos(20));
+		}
+		routeLatencyHistogram.record(ROUTE, TimeUnit.MILLISECONDS.toNanos(400));
+		routeLatencyHistogram.record(ROUTE, TimeUnit.MILLISECONDS.toNanos(20000));
+
+		final var result = routeLatencyHistogram.latency()
+				.get(ROUTE);
+
+		assertEquals(100, result.count());
+		assertEquals(25, result.p50Ms());
+		assertEquals(25, result.p90Ms());
+		assertEquals(500, result.p99Ms());
+		assertEquals(20000, result.maxMs());
+		assertEquals(98, result.buckets()
+				.get("25"));
+		assertEquals(1, result.buckets()
+				.get("+Inf"));
+	}
+
+	@Test
+	public void latency_shouldDropRequestsOutsideWindow() {
+		routeLatencyHistogram.record(ROUTE, TimeUnit.MILLISECONDS.toNanos(20));
+		nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(50));
+		routeLatencyHistogram.record(ROUTE, TimeUnit.MILLISECONDS.toNanos(200));
+
+		assertEquals(2, routeLatencyHistogram.latency()
+				.get(ROUTE)
+				.count());
+
+		nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(20));
+
+		final var result = routeLatencyHistogram.latency()
+				.get(ROUTE);
+		assertEquals(1, result.count());
+		assertEquals(200, result.maxMs());
+	}
+
+	@Test
+	public void record_shouldGroupRequestsWithoutRoute() {
+		routeLatencyHistogram.record(null, TimeUnit.MILLISECONDS.toNanos(1));
+
+		assertTrue(routeLatencyHistogram.latency()
+				.containsKey(UNMAPPED_ROUTE));
+	}
+}
@@ -1,55 +1,103 @@
 package com.starwars.planets.controller;
 
 import com.starwars.planets.Application;
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.config.ExportExecutorConfig;
 import com.starwars.planets.converter.PlanetConverter;
+import com.starwars.planets.dto.BulkCreateResult;
+import com.starwars.planets.dto.BulkOperationStatus;
+import com.starwars.planets.dto.PlanetPage;
+import com.starwars.planets.dto.PlanetSummary;
 import com.starwars.planets.exception.ConflictException;
 import com.starwars.planets.exception.DataNotFoundException;
 import com.starwars.planets.model.Planet;
+import com.starwars.planets.model.PlanetCollectionVersion;
 import com.starwars.planets.service.PlanetService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
 import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.Map;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
+import static com.starwars.planets.controller.PlanetController.NEXT_CURSOR_HEADER;
+import static com.starwars.planets.controller.PlanetResponseCache.GZIP;
 import static com.starwars.planets.utils.PlanetControllerUtils.getCreatePlanetRequestJson;
 import static com.starwars.planets.utils.PlanetControllerUtils.getCreatePlanetRequestWithoutClimateJson;
 import static com.starwars.planets.utils.PlanetControllerUtils.getCreatePlanetRequestWithoutNameJson;
 import static com.starwars.planets.utils.PlanetControllerUtils.getCreatePlanetRequestWithoutTerrainJson;
 import static com.starwars.planets.utils.TestUtils.getRandomInteger;
 import static com.starwars.planets.utils.TestUtils.getRandomString;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ACCEPT_ENCODING;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.LAST_MODIFIED;
+import static org.springframework.http.HttpHeaders.LINK;
+import static org.springframework.http.HttpHeaders.VARY;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(SpringExtension.class)
 @WebMvcTest({ PlanetController.class })
-@ContextConfiguration(classes = { Application.class, PlanetConverter.class })
+@ContextConfiguration(classes = { Application.class, PlanetConverter.class, PlanetProperties.class,
+		PlanetResponseCache.class, ExportExecutorConfig.class })
 public class PlanetControllerTest {
 
 	@Autowired
 	private MockMvc mockMvc;
 
+	@Autowired
+	private PlanetResponseCache planetResponseCache;
+
+	@Autowired
+	private PlanetProperties planetProperties;
+
 	@MockBean
 	private PlanetService planetServiceMock;
 
+	@BeforeEach
+	public void setUp() {
+		planetResponseCache.invalidateAll();
+	}
+
 	@Test
 	public void createPlanet_shouldCreate() throws Exception {
 		final var requestJson = getCreatePlanetRequestJson();
@@ -89,6 +137,18 @@ public class PlanetControllerTest {
 		verify(planetServiceMock, times(1)).createPlanet(incomePlanet);
 	}
 
+	@Test
+	public void createPlanet_shouldConflictWhenDuplicateKey() throws Exception {
+		final var requestJson = getCreatePlanetRequestJson();
+		final var incomePlanet = new Planet("Tatooine", "arid", "desert");
+		when(planetServiceMock.createPlanet(incomePlanet)).thenThrow(new DuplicateKeyException("E11000 duplicate key"));
+
+		mockMvc.perform(post("/api/v1/star-wars/planets").contentType(APPLICATION_JSON)
+				.content(requestJson))
+				.andExpect(status().is(409))
+				.andExpect(jsonPath("description").value("Resource already exist"));
+	}
+
 	@Test
 	public void createPlanet_shouldBadRequestWhenMissingName() throws Exception {
 		final var requestJson = getCreatePlanetRequestWithoutNameJson();
@@ -131,32 +191,153 @@ public class PlanetControllerTest {
 		verify(planetServiceMock, times(0)).createPlanet(any());
 	}
 
+	@Test
+	public void createPlanets_shouldReportResultOfEachPlanet() throws Exception {
+		final var requestJson = "[" + getCreatePlanetRequestJson() + "," + getCreatePlanetRequestWithoutNameJson() + ","
+				+ getCreatePlanetRequestJson() + "]";
+		final var createdPlanet = new Planet(getRandomString(), UUID.randomUUID()
+				.toString(), "Tatooine", getRandomString(), getRandomString(), LocalDateTime.now(), getRandomString());
+		final var incomePlanet = new Planet("Tatooine", "arid", "desert");
+
+		when(planetServiceMock.createPlanets(List.of(incomePlanet, incomePlanet))).thenReturn(
+				List.of(new BulkCreateResult(createdPlanet, BulkOperationStatus.CREATED),
+						new BulkCreateResult(incomePlanet, BulkOperationStatus.CONFLICT)));
+
+		mockMvc.perform(post("/api/v1/star-wars/planets/bulk").contentType(APPLICATION_JSON)
+				.content(requestJson))
+				.andExpect(status().is(200))
+				.andExpect(jsonPath("$[0].index").value(0))
+				.andExpect(jsonPath("$[0].id").value(createdPlanet.getUuid()))
+				.andExpect(jsonPath("$[0].status").value("CREATED"))
+				.andExpect(jsonPath("$[1].index").value(1))
+				.andExpect(jsonPath("$[1].status").value("INVALID"))
+				.andExpect(jsonPath("$[1].message").value("Planet name cannot be null"))
+				.andExpect(jsonPath("$[2].index").value(2))
+				.andExpect(jsonPath("$[2].status").value("CONFLICT"))
+				.andExpect(jsonPath("$[2].message").value("Planet with name Tatooine already exist"));
+
+		verify(planetServiceMock, times(1)).createPlanets(List.of(incomePlanet, incomePlanet));
+	}
+
+	@Test
+	public void createPlanets_shouldBadRequestWhenTooManyPlanets() throws Exception {
+		when(planetServiceMock.createPlanets(any())).thenThrow(
+				new IllegalArgumentException("Bulk operations accept at most 1 planets"));
+
+		mockMvc.perform(post("/api/v1/star-wars/planets/bulk").contentType(APPLICATION_JSON)
+				.content("[" + getCreatePlanetRequestJson() + "," + getCreatePlanetRequestJson() + "]"))
+				.andExpect(status().is(400))
+				.andExpect(jsonPath("description").value("Bulk operations accept at most 1 planets"));
+	}
+
+	@Test
+	public void createPlanets_shouldBadRequestBeforeValidatingWhenBodyIsTooLarge() throws Exception {
+		final var requestJson = IntStream.rangeClosed(0, planetProperties.getBulkMaxSize())
+				.mapToObj(x -> "{}")
+				.collect(Collectors.joining(",", "[", "]"));
+
+		mockMvc.perform(post("/api/v1/star-wars/planets/bulk").contentType(APPLICATION_JSON)
+				.content(requestJson))
+				.andExpect(status().is(400))
+				.andExpect(jsonPath("description").value(
+						"Bulk operations accept at most " + planetProperties.getBulkMaxSize() + " planets"));
+
+		verify(planetServiceMock, times(0)).createPlanets(any());
+	}
+
+	@Test
+	public void deletePlanets_shouldBadRequestWhenBodyIsTooLarge() throws Exception {
+		final var requestJson = IntStream.rangeClosed(0, planetProperties.getBulkMaxSize())
+				.mapToObj(x -> "\"" + x + "\"")
+				.collect(Collectors.joining(",", "[", "]"));
+
+		mockMvc.perform(delete("/api/v1/star-wars/planets/bulk").contentType(APPLICATION_JSON)
+				.content(requestJson))
+				.andExpect(status().is(400));
+
+		verify(planetServiceMock, times(0)).deletePlanetsById(any());
+	}
+
+	@Test
+	public void deletePlanets_shouldReportResultOfEachId() throws Exception {
+		final var deletedId = UUID.randomUUID()
+				.toString();
+		final var notFoundId = UUID.randomUUID()
+				.toString();
+
+		when(planetServiceMock.deletePlanetsById(List.of(deletedId, notFoundId))).thenReturn(Set.of(deletedId));
+
+		mockMvc.perform(delete("/api/v1/star-wars/planets/bulk").contentType(APPLICATION_JSON)
+				.content("[\"" + deletedId + "\",\"" + notFoundId + "\"]"))
+				.andExpect(status().is(200))
+				.andExpect(jsonPath("$[0].id").value(deletedId))
+				.andExpect(jsonPath("$[0].status").value("DELETED"))
+				.andExpect(jsonPath("$[1].id").value(notFoundId))
+				.andExpect(jsonPath("$[1].status").value("NOT_FOUND"));
+
+		verify(planetServiceMock, times(1)).deletePlanetsById(List.of(deletedId, notFoundId));
+	}
+
 	@Test
 	public void findPlanets_shouldFindWithoutName() throws Exception {
 		final var planetName = getRandomString();
 		final var planetTerrain = getRandomString();
 		final var planetClimate = getRandomString();
 		final var planetId = getRandomString();
-		final var planetUser = getRandomString();
 
 		final var uuid = UUID.randomUUID();
-		final var planet = new Planet(planetId, uuid.toString(), planetName, planetClimate, planetTerrain,
-				LocalDateTime.now(), planetUser);
-
 		final var appearances = getRandomInteger();
-		final var serviceResponse = Map.of(planet, appearances);
+		final var planet = new PlanetSummary(planetId, uuid.toString(), planetName, planetClimate, planetTerrain,
+				appearances);
+		final var serviceResponse = new PlanetPage(List.of(planet), null);
 
-		when(planetServiceMock.findPlanetsWithFilmAppearances(null)).thenReturn(serviceResponse);
+		when(planetServiceMock.findPlanetsWithFilmAppearances(null, null, null, null)).thenReturn(serviceResponse);
 
 		mockMvc.perform(get("/api/v1/star-wars/planets").contentType(APPLICATION_JSON))
 				.andExpect(status().is(200))
+				.andExpect(header().doesNotExist(NEXT_CURSOR_HEADER))
 				.andExpect(jsonPath("$[0].name").value(planetName))
 				.andExpect(jsonPath("$[0].terrain").value(planetTerrain))
 				.andExpect(jsonPath("$[0].climate").value(planetClimate))
 				.andExpect(jsonPath("$[0].id").value(uuid.toString()))
 				.andExpect(jsonPath("$[0].filmAppearances").value(appearances));
 
-		verify(planetServiceMock, times(1)).findPlanetsWithFilmAppearances(null);
+		verify(planetServiceMock, times(1)).findPlanetsWithFilmAppearances(null, null, null, null);
+	}
+
+	@Test
+	public void findPlanets_shouldReturnNextCursor() throws Exception {
+		final var planet = new PlanetSummary(getRandomString(), UUID.randomUUID()
+				.toString(), getRandomString(), getRandomString(), getRandomString(), null);
+		final var nextCursor = getRandomString();
+		final var serviceResponse = new PlanetPage(List.of(planet), nextCursor);
+
+		when(planetServiceMock.findPlanetsWithFilmAppearances(null, 0, 1, null)).thenReturn(serviceResponse);
+
+		mockMvc.perform(get("/api/v1/star-wars/planets").contentType(APPLICATION_JSON)
+				.param("page", "0")
+				.param("size", "1"))
+				.andExpect(status().is(200))
+				.andExpect(header().string(NEXT_CURSOR_HEADER, nextCursor))
+				.andExpect(header().string(LINK,
+						"<http://localhost/api/v1/star-wars/planets?size=1&cursor=" + nextCursor + ">; rel=\"next\""))
+				.andExpect(jsonPath("$[0].id").value(planet.uuid()))
+				.andExpect(jsonPath("$[0].filmAppearances").value(0))
+				.andExpect(jsonPath("$[0].degraded").value(true));
+
+		verify(planetServiceMock, times(1)).findPlanetsWithFilmAppearances(null, 0, 1, null);
+	}
+
+	@Test
+	public void findPlanets_shouldBadRequestWhenInvalidCursor() throws Exception {
+		final var cursor = getRandomString();
+		when(planetServiceMock.findPlanetsWithFilmAppearances(null, null, null, cursor)).thenThrow(
+				new IllegalArgumentException("Invalid cursor"));
+
+		mockMvc.perform(get("/api/v1/star-wars/planets").contentType(APPLICATION_JSON)
+				.param("cursor", cursor))
+				.andExpect(status().is(400))
+				.andExpect(jsonPath("description").value("Invalid cursor"));
 	}
 
 	@Test
@@ -165,16 +346,14 @@ public class PlanetControllerTest {
 		final var planetTerrain = getRandomString();
 		final var planetClimate = getRandomString();
 		final var planetId = getRandomString();
-		final var planetUser = getRandomString();
 
 		final var uuid = UUID.randomUUID();
-		final var planet = new Planet(planetId, uuid.toString(), planetName, planetClimate, planetTerrain,
-				LocalDateTime.now(), planetUser);
-
 		final var appearances = getRandomInteger();
-		final var serviceResponse = Map.of(planet, appearances);
+		final var planet = new PlanetSummary(planetId, uuid.toString(), planetName, planetClimate, planetTerrain,
+				appearances);
+		final var serviceResponse = new PlanetPage(List.of(planet), null);
 
-		when(planetServiceMock.findPlanetsWithFilmAppearances(planetName)).thenReturn(serviceResponse);
+		when(planetServiceMock.findPlanetsWithFilmAppearances(planetName, null, null, null)).thenReturn(serviceResponse);
 
 		mockMvc.perform(get("/api/v1/star-wars/planets").contentType(APPLICATION_JSON)
 				.param("name", planetName))
@@ -185,21 +364,56 @@ public class PlanetControllerTest {
 				.andExpect(jsonPath("$[0].id").value(uuid.toString()))
 				.andExpect(jsonPath("$[0].filmAppearances").value(appearances));
 
-		verify(planetServiceMock, times(1)).findPlanetsWithFilmAppearances(planetName);
+		verify(planetServiceMock, times(1)).findPlanetsWithFilmAppearances(planetName, null, null, null);
 	}
 
 	@Test
 	public void findPlanets_shouldReturnEmpty() throws Exception {
 		final var planetName = getRandomString();
 
-		when(planetServiceMock.findPlanetsWithFilmAppearances(planetName)).thenReturn(Collections.emptyMap());
+		when(planetServiceMock.findPlanetsWithFilmAppearances(planetName, null, null, null)).thenReturn(
+				new PlanetPage(Collections.emptyList(), null));
 
 		mockMvc.perform(get("/api/v1/star-wars/planets").contentType(APPLICATION_JSON)
 				.param("name", planetName))
 				.andExpect(status().is(200))
 				.andExpect(jsonPath("$").isEmpty());
 
-		verify(planetServiceMock, times(1)).findPlanetsWithFilmAppearances(planetName);
+		verify(planetServiceMock, times(1)).findPlanetsWithFilmAppearances(planetName, null, null, null);
+	}
+
+	@Test
+	public void exportPlanets_shouldStreamOnePlanetPerLine() throws Exception {
+		final var planet1 = new PlanetSummary(getRandomString(), UUID.randomUUID()
+				.toString(), getRandomString(), getRandomString(), getRandomString(), getRandomInteger());
+		final var planet2 = new PlanetSummary(getRandomString(), UUID.randomUUID()
+				.toString(), getRandomString(), getRandomString(), getRandomString(), getRandomInteger());
+
+		doAnswer(x -> {
+			final Consumer<List<PlanetSummary>> windowConsumer = x.getArgument(0);
+			windowConsumer.accept(List.of(planet1));
+			windowConsumer.accept(List.of(planet2));
+			return null;
+		}).when(planetServiceMock)
+				.exportPlanets(any());
+
+		final var mvcResult = mockMvc.perform(get("/api/v1/star-wars/planets/export"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		final var lines = mockMvc.perform(asyncDispatch(mvcResult))
+				.andExpect(status().is(200))
+				.andExpect(content().contentType(APPLICATION_NDJSON))
+				.andReturn()
+				.getResponse()
+				.getContentAsString()
+				.split("\n");
+
+		assertEquals(2, lines.length);
+		assertTrue(lines[0].contains(planet1.uuid()));
+		assertTrue(lines[1].contains(planet2.uuid()));
+
+		verify(planetServiceMock, times(1)).exportPlanets(any());
 	}
 
 	@Test
@@ -208,14 +422,11 @@ public class PlanetControllerTest {
 		final var planetTerrain = getRandomString();
 		final var planetClimate = getRandomString();
 		final var planetId = getRandomString();
-		final var planetUser = getRandomString();
 
 		final var uuid = UUID.randomUUID();
-		final var planet = new Planet(planetId, uuid.toString(), planetName, planetClimate, planetTerrain,
-				LocalDateTime.now(), planetUser);
-
 		final var appearances = getRandomInteger();
-		final var serviceResponse = Map.entry(planet, appearances);
+		final var serviceResponse = new PlanetSummary(planetId, uuid.toString(), planetName, planetClimate,
+				planetTerrain, appearances);
 
 		when(planetServiceMock.findPlanetWithFilmAppearancesById(uuid.toString())).thenReturn(serviceResponse);
 
@@ -230,6 +441,114 @@ public class PlanetControllerTest {
 		verify(planetServiceMock, times(1)).findPlanetWithFilmAppearancesById(uuid.toString());
 	}
 
+	@Test
+	public void findPlanetById_shouldReturnNotModifiedWhenETagMatches() throws Exception {
+		final var uuid = UUID.randomUUID();
+		final var serviceResponse = new PlanetSummary(getRandomString(), uuid.toString(), getRandomString(),
+				getRandomString(), getRandomString(), getRandomInteger(), LocalDateTime.now(), LocalDateTime.now());
+
+		when(planetServiceMock.findPlanetWithFilmAppearancesById(uuid.toString())).thenReturn(serviceResponse);
+
+		final var eTag = mockMvc.perform(get("/api/v1/star-wars/planets/{id}", uuid.toString()))
+				.andExpect(status().is(200))
+				.andExpect(header().string(CACHE_CONTROL, "no-cache"))
+				.andExpect(header().exists(LAST_MODIFIED))
+				.andReturn()
+				.getResponse()
+				.getHeader(ETAG);
+
+		mockMvc.perform(get("/api/v1/star-wars/planets/{id}", uuid.toString()).header(IF_NONE_MATCH, eTag))
+				.andExpect(status().is(304))
+				.andExpect(header().string(ETAG, eTag))
+				.andExpect(header().string(CACHE_CONTROL, "no-cache"))
+				.andExpect(content().string(""));
+
+		verify(planetServiceMock, times(2)).findPlanetWithFilmAppearancesById(uuid.toString());
+	}
+
+	@Test
+	public void findPlanets_shouldReturnNotModifiedWithoutFindingPlanets() throws Exception {
+		final var collectionVersion = new PlanetCollectionVersion(getRandomString(), getRandomInteger().longValue(),
+				LocalDateTime.now(), 2L, getRandomString());
+		when(planetServiceMock.findCollectionVersion()).thenReturn(Optional.of(collectionVersion));
+		when(planetServiceMock.findPlanetsWithFilmAppearances(null, null, null, null)).thenReturn(
+				new PlanetPage(Collections.emptyList(), null));
+
+		mockMvc.perform(
+						get("/api/v1/star-wars/planets").header(IF_NONE_MATCH, "\"" + collectionVersion.toETag() + "\""))
+				.andExpect(status().is(304))
+				.andExpect(content().string(""));
+
+		mockMvc.perform(get("/api/v1/star-wars/planets").header(IF_NONE_MATCH,
+						"\"" + collectionVersion.getVersion() + "-1-" + collectionVersion.getLastPlanetId() + "\""))
+				.andExpect(status().is(200))
+				.andExpect(header().string(ETAG, "\"" + collectionVersion.toETag() + "\""));
+
+		verify(planetServiceMock, times(1)).findPlanetsWithFilmAppearances(null, null, null, null);
+	}
+
+	@Test
+	public void findPlanets_shouldServeRepeatedReadsFromCacheUntilCollectionChanges() throws Exception {
+		final var planet = new PlanetSummary(getRandomString(), UUID.randomUUID()
+				.toString(), getRandomString(), getRandomString(), getRandomString(), getRandomInteger());
+		when(planetServiceMock.findCollectionVersion()).thenReturn(
+						Optional.of(new PlanetCollectionVersion(getRandomString(), 1L, LocalDateTime.now())))
+				.thenReturn(Optional.of(new PlanetCollectionVersion(getRandomString(), 1L, LocalDateTime.now())))
+				.thenReturn(Optional.of(new PlanetCollectionVersion(getRandomString(), 2L, LocalDateTime.now())));
+		when(planetServiceMock.findPlanetsWithFilmAppearances(null, null, null, null)).thenReturn(
+				new PlanetPage(List.of(planet), null));
+
+		for (int i = 0; i < 3; i++) {
+			mockMvc.perform(get("/api/v1/star-wars/planets"))
+					.andExpect(status().is(200))
+					.andExpect(jsonPath("$[0].id").value(planet.uuid()));
+		}
+
+		verify(planetServiceMock, times(2)).findPlanetsWithFilmAppearances(null, null, null, null);
+	}
+
+	@Test
+	public void findPlanets_shouldReturnPrecompressedGzipWhenAccepted() throws Exception {
+		final var planets = IntStream.range(0, 50)
+				.mapToObj(x -> new PlanetSummary(getRandomString(), UUID.randomUUID()
+						.toString(), getRandomString(), getRandomString(), getRandomString(), getRandomInteger()))
+				.collect(Collectors.toList());
+		when(planetServiceMock.findPlanetsWithFilmAppearances(null, null, null, null)).thenReturn(
+				new PlanetPage(planets, null));
+
+		final var json = mockMvc.perform(get("/api/v1/star-wars/planets"))
+				.andExpect(status().is(200))
+				.andExpect(header().doesNotExist(CONTENT_ENCODING))
+				.andReturn()
+				.getResponse();
+
+		final var gzip = mockMvc.perform(get("/api/v1/star-wars/planets").header(ACCEPT_ENCODING, "br, gzip;q=0.8"))
+				.andExpect(status().is(200))
+				.andExpect(header().string(CONTENT_ENCODING, "gzip"))
+				.andExpect(header().string(VARY, ACCEPT_ENCODING))
+				.andReturn()
+				.getResponse();
+
+		try (final var gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))) {
+			assertArrayEquals(json.getContentAsByteArray(), gzipInputStream.readAllBytes());
+		}
+
+		final var jsonETag = json.getHeader(ETAG);
+		final var gzipETag = gzip.getHeader(ETAG);
+		assertNotEquals(jsonETag, gzipETag);
+
+		mockMvc.perform(get("/api/v1/star-wars/planets").header(ACCEPT_ENCODING, GZIP)
+						.header(IF_NONE_MATCH, jsonETag + ", " + gzipETag))
+				.andExpect(status().is(304))
+				.andExpect(header().string(ETAG, gzipETag));
+
+		mockMvc.perform(get("/api/v1/star-wars/planets").header(IF_NONE_MATCH, jsonETag))
+				.andExpect(status().is(304))
+				.andExpect(header().string(ETAG, jsonETag));
+
+		verify(planetServiceMock, times(1)).findPlanetsWithFilmAppearances(null, null, null, null);
+	}
+
 	@Test
 	public void findPlanetById_shouldThrowNotFoundWhenNotFound() throws Exception {
 		final var uuid = UUID.randomUUID();
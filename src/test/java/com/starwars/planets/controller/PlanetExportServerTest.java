@@ -0,0 +1,56 @@
+package com.starwars.planets.controller;
+
+import com.starwars.planets.dto.PlanetSummary;
+import com.starwars.planets.service.PlanetService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static com.starwars.planets.config.LogConfig.CORRELATION_ID_HEADER;
+import static com.starwars.planets.utils.TestUtils.getRandomInteger;
+import static com.starwars.planets.utils.TestUtils.getRandomString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+// Runs on a real server so the export goes through the servlet filters, which must all support async requests
+@SpringBootTest(webEnvironment = RANDOM_PORT, properties = "spring.data.mongodb.auto-index-creation=false")
+public class PlanetExportServerTest {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@MockBean
+	private PlanetService planetServiceMock;
+
+	@Test
+	public void exportPlanets_shouldStreamThroughServletFilters() {
+		final var planet = new PlanetSummary(getRandomString(), UUID.randomUUID()
+				.toString(), getRandomString(), getRandomString(), getRandomString(), getRandomInteger());
+
+		doAnswer(x -> {
+			final Consumer<List<PlanetSummary>> windowConsumer = x.getArgument(0);
+			windowConsumer.accept(List.of(planet));
+			return null;
+		}).when(planetServiceMock)
+				.exportPlanets(any());
+
+		final var response = restTemplate.getForEntity("/api/v1/star-wars/planets/export", String.class);
+
+		assertEquals(HttpStatus.OK, response.getStatusCode());
+		assertNotNull(response.getHeaders()
+				.getFirst(CORRELATION_ID_HEADER));
+		assertTrue(response.getBody()
+				.contains(planet.uuid()));
+	}
+}
@@ -0,0 +1,108 @@
+package com.starwars.planets.controller;
+
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.controller.PlanetResponseCache.CachedResponse;
+import com.starwars.planets.controller.PlanetResponseCache.Key;
+import com.starwars.planets.event.PlanetsCreatedEvent;
+import com.starwars.planets.event.PlanetsDeletedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.starwars.planets.controller.PlanetResponseCache.acceptsGzip;
+import static com.starwars.planets.utils.TestUtils.getRandomString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PlanetResponseCacheTest {
+
+	@Mock
+	private PlanetProperties propertiesMock;
+
+	private PlanetResponseCache planetResponseCache;
+
+	@BeforeEach
+	public void setUp() {
+		when(propertiesMock.getResponseCacheMaximumSize()).thenReturn(DataSize.ofMegabytes(1));
+		when(propertiesMock.getResponseCacheGzipMinSize()).thenReturn(DataSize.ofBytes(64));
+
+		planetResponseCache = new PlanetResponseCache(propertiesMock);
+	}
+
+	@Test
+	public void get_shouldLoadAgainAfterPlanetChanged() {
+		final var key = new Key("1", null, null, null, null);
+		final var loads = new AtomicInteger();
+
+		planetResponseCache.get(key, () -> newResponse(loads));
+		planetResponseCache.get(key, () -> newResponse(loads));
+		planetResponseCache.onPlanetsChanged(new PlanetsCreatedEvent(Set.of(getRandomString()), Set.of("hoth")));
+		planetResponseCache.get(key, () -> newResponse(loads));
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void get_shouldOnlyLoadAgainChangedNames() {
+		final var tatooine = new Key("1", "Tatooine", null, null, null);
+		final var hoth = new Key("1", "Hoth", null, null, null);
+		final var loads = new AtomicInteger();
+
+		planetResponseCache.get(tatooine, () -> newResponse(loads));
+		planetResponseCache.get(hoth, () -> newResponse(loads));
+		planetResponseCache.onPlanetsChanged(new PlanetsDeletedEvent(Set.of(getRandomString()), Set.of("hoth")));
+		planetResponseCache.get(tatooine, () -> newResponse(loads));
+		planetResponseCache.get(hoth, () -> newResponse(loads));
+
+		assertEquals(3, loads.get());
+	}
+
+	@Test
+	public void get_shouldLoadAgainAllNamesWhenChangedNamesAreUnknown() {
+		final var key = new Key("1", "Tatooine", null, null, null);
+		final var loads = new AtomicInteger();
+
+		planetResponseCache.get(key, () -> newResponse(loads));
+		planetResponseCache.onPlanetsChanged(new PlanetsDeletedEvent(Set.of(), null));
+		planetResponseCache.get(key, () -> newResponse(loads));
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void get_shouldOnlyCompressLargeResponses() {
+		final var small = planetResponseCache.get(new Key("1", getRandomString(), null, null, null),
+				() -> new CachedResponse("[]".getBytes(), null));
+		final var large = planetResponseCache.get(new Key("1", null, null, null, null),
+				() -> new CachedResponse("[]".repeat(64)
+						.getBytes(), null));
+
+		assertNull(small.gzip());
+		assertNotNull(large.gzip());
+	}
+
+	@Test
+	public void acceptsGzip_shouldHonourQualityValues() {
+		assertTrue(acceptsGzip("deflate, gzip;q=0.5"));
+		assertTrue(acceptsGzip("GZIP"));
+		assertFalse(acceptsGzip("gzip;q=0"));
+		assertFalse(acceptsGzip("br"));
+		assertFalse(acceptsGzip(null));
+	}
+
+	private CachedResponse newResponse(AtomicInteger loads) {
+		loads.incrementAndGet();
+		return new CachedResponse("[]".getBytes(), null);
+	}
+}
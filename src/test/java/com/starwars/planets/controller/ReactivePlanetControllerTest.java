@@ -0,0 +1,208 @@
+package com.starwars.planets.controller;
+
+import com.starwars.planets.Application;
+import com.starwars.planets.dto.PlanetPage;
+import com.starwars.planets.dto.PlanetSummary;
+import com.starwars.planets.dto.response.FindPlanetResponse;
+import com.starwars.planets.exception.ConflictException;
+import com.starwars.planets.exception.DataNotFoundException;
+import com.starwars.planets.model.Planet;
+import com.starwars.planets.service.ReactivePlanetService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static com.starwars.planets.controller.PlanetController.NEXT_CURSOR_HEADER;
+import static com.starwars.planets.utils.PlanetControllerUtils.getCreatePlanetRequestJson;
+import static com.starwars.planets.utils.PlanetControllerUtils.getCreatePlanetRequestWithoutNameJson;
+import static com.starwars.planets.utils.TestUtils.getRandomInteger;
+import static com.starwars.planets.utils.TestUtils.getRandomString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.LINK;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+
+@ExtendWith(SpringExtension.class)
+@WebFluxTest({ ReactivePlanetController.class })
+@ContextConfiguration(classes = { Application.class })
+public class ReactivePlanetControllerTest {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@MockBean
+	private ReactivePlanetService planetServiceMock;
+
+	@Test
+	public void createPlanet_shouldCreate() {
+		final var planet = newPlanet();
+		final var incomePlanet = new Planet("Tatooine", "arid", "desert");
+		when(planetServiceMock.createPlanet(incomePlanet)).thenReturn(Mono.just(planet));
+
+		webTestClient.post()
+				.uri("/api/v1/star-wars/planets")
+				.contentType(APPLICATION_JSON)
+				.bodyValue(getCreatePlanetRequestJson())
+				.exchange()
+				.expectStatus()
+				.isCreated()
+				.expectHeader()
+				.valueMatches("Location", ".*" + Pattern.quote("/api/v1/star-wars/planets/" + planet.getUuid()))
+				.expectBody()
+				.jsonPath("id")
+				.isEqualTo(planet.getUuid());
+
+		verify(planetServiceMock, times(1)).createPlanet(incomePlanet);
+	}
+
+	@Test
+	public void createPlanet_shouldConflictWhenNameAlreadyExist() {
+		final var incomePlanet = new Planet("Tatooine", "arid", "desert");
+		when(planetServiceMock.createPlanet(incomePlanet)).thenReturn(
+				Mono.error(new ConflictException("Planet already exist")));
+
+		webTestClient.post()
+				.uri("/api/v1/star-wars/planets")
+				.contentType(APPLICATION_JSON)
+				.bodyValue(getCreatePlanetRequestJson())
+				.exchange()
+				.expectStatus()
+				.isEqualTo(409)
+				.expectBody()
+				.jsonPath("description")
+				.isEqualTo("Planet already exist");
+	}
+
+	@Test
+	public void createPlanet_shouldBadRequestWhenMissingName() {
+		webTestClient.post()
+				.uri("/api/v1/star-wars/planets")
+				.contentType(APPLICATION_JSON)
+				.bodyValue(getCreatePlanetRequestWithoutNameJson())
+				.exchange()
+				.expectStatus()
+				.isBadRequest()
+				.expectBody()
+				.jsonPath("description")
+				.isEqualTo("Validation Exception")
+				.jsonPath("attributes[0].attribute")
+				.isEqualTo("name");
+
+		verify(planetServiceMock, times(0)).createPlanet(any());
+	}
+
+	@Test
+	public void findPlanets_shouldReturnNextCursor() {
+		final var appearances = getRandomInteger();
+		final var planet = new PlanetSummary(getRandomString(), UUID.randomUUID()
+				.toString(), getRandomString(), getRandomString(), getRandomString(), appearances);
+		final var nextCursor = getRandomString();
+
+		when(planetServiceMock.findPlanetsWithFilmAppearances(null, 0, 1, null)).thenReturn(
+				Mono.just(new PlanetPage(List.of(planet), nextCursor)));
+
+		webTestClient.get()
+				.uri("/api/v1/star-wars/planets?page=0&size=1")
+				.exchange()
+				.expectStatus()
+				.isOk()
+				.expectHeader()
+				.valueEquals(NEXT_CURSOR_HEADER, nextCursor)
+				.expectHeader()
+				.valueMatches(LINK,
+						"<.*" + Pattern.quote("/api/v1/star-wars/planets?size=1&cursor=" + nextCursor + ">; rel=\"next\""))
+				.expectBody()
+				.jsonPath("$[0].id")
+				.isEqualTo(planet.uuid())
+				.jsonPath("$[0].filmAppearances")
+				.isEqualTo(appearances);
+	}
+
+	@Test
+	public void findPlanets_shouldBadRequestWhenInvalidCursor() {
+		final var cursor = getRandomString();
+		when(planetServiceMock.findPlanetsWithFilmAppearances(null, null, null, cursor)).thenReturn(
+				Mono.error(new IllegalArgumentException("Invalid cursor")));
+
+		webTestClient.get()
+				.uri("/api/v1/star-wars/planets?cursor=" + cursor)
+				.exchange()
+				.expectStatus()
+				.isBadRequest()
+				.expectBody()
+				.jsonPath("description")
+				.isEqualTo("Invalid cursor");
+	}
+
+	@Test
+	public void exportPlanets_shouldStreamOnePlanetPerLine() {
+		final var planet1 = newPlanetSummary();
+		final var planet2 = newPlanetSummary();
+
+		when(planetServiceMock.exportPlanets()).thenReturn(Flux.just(planet1, planet2));
+
+		webTestClient.get()
+				.uri("/api/v1/star-wars/planets/export")
+				.accept(APPLICATION_NDJSON)
+				.exchange()
+				.expectStatus()
+				.isOk()
+				.expectHeader()
+				.contentTypeCompatibleWith(APPLICATION_NDJSON)
+				.expectBodyList(FindPlanetResponse.class)
+				.hasSize(2);
+	}
+
+	@Test
+	public void findPlanetById_shouldNotFound() {
+		final var planetId = getRandomString();
+		when(planetServiceMock.findPlanetWithFilmAppearancesById(planetId)).thenReturn(
+				Mono.error(new DataNotFoundException("Planet not found")));
+
+		webTestClient.get()
+				.uri("/api/v1/star-wars/planets/" + planetId)
+				.exchange()
+				.expectStatus()
+				.isNotFound();
+	}
+
+	@Test
+	public void deletePlanet_shouldDelete() {
+		final var planetId = getRandomString();
+		when(planetServiceMock.deletePlanetById(planetId)).thenReturn(Mono.empty());
+
+		webTestClient.delete()
+				.uri("/api/v1/star-wars/planets/" + planetId)
+				.exchange()
+				.expectStatus()
+				.isNoContent();
+
+		verify(planetServiceMock, times(1)).deletePlanetById(planetId);
+	}
+
+	private PlanetSummary newPlanetSummary() {
+		return new PlanetSummary(getRandomString(), UUID.randomUUID()
+				.toString(), getRandomString(), getRandomString(), getRandomString(), getRandomInteger());
+	}
+
+	private Planet newPlanet() {
+		return new Planet(getRandomString(), UUID.randomUUID()
+				.toString(), getRandomString(), getRandomString(), getRandomString(), LocalDateTime.now(),
+				getRandomString());
+	}
+}
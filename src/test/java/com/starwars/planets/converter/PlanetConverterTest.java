@@ -1,71 +1,66 @@
 package com.starwars.planets.converter;
 
-import com.starwars.planets.model.Planet;
+import com.starwars.planets.dto.BulkOperationStatus;
+import com.starwars.planets.dto.PlanetSummary;
+import com.starwars.planets.dto.response.BulkPlanetResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import static com.starwars.planets.converter.PlanetConverter.convertToBulkPlanetResponse;
 import static com.starwars.planets.converter.PlanetConverter.convertToFindPlanetResponse;
 import static com.starwars.planets.utils.TestUtils.getRandomInteger;
 import static com.starwars.planets.utils.TestUtils.getRandomString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 public class PlanetConverterTest {
 
 	@Test
-	public void convertToFindPlanetResponse_shouldConvertMapOfPlanets() {
-		final var planetName = getRandomString();
-		final var planetTerrain = getRandomString();
-		final var planetClimate = getRandomString();
-		final var planetId = getRandomString();
-		final var planetUser = getRandomString();
-
-		final var uuid = UUID.randomUUID();
-		final var planet = new Planet(planetId, uuid.toString(), planetName, planetClimate, planetTerrain,
-				LocalDateTime.now(), planetUser);
-
+	public void convertToFindPlanetResponse_shouldConvertListOfPlanetsKeepingOrder() {
 		final var appearances = getRandomInteger();
-		final var planetsWithFilmAppearances = Map.of(planet, appearances);
+		final var syncedPlanet = new PlanetSummary(getRandomString(), UUID.randomUUID()
+				.toString(), getRandomString(), getRandomString(), getRandomString(), appearances);
+		final var unsyncedPlanet = new PlanetSummary(getRandomString(), UUID.randomUUID()
+				.toString(), getRandomString(), getRandomString(), getRandomString(), null);
 
-		final var result = convertToFindPlanetResponse(planetsWithFilmAppearances);
+		final var result = convertToFindPlanetResponse(List.of(syncedPlanet, unsyncedPlanet));
 
-		assertEquals(1, result.size());
-		final var findPlanetResponse = result.stream()
-				.findFirst()
-				.get();
-		assertEquals(planetName, findPlanetResponse.getName());
-		assertEquals(planetClimate, findPlanetResponse.getClimate());
-		assertEquals(planetTerrain, findPlanetResponse.getTerrain());
-		assertEquals(uuid.toString(), findPlanetResponse.getId());
-		assertEquals(appearances, findPlanetResponse.getFilmAppearances());
+		assertEquals(2, result.size());
+		assertEquals(syncedPlanet.uuid(), result.get(0)
+				.getId());
+		assertEquals(syncedPlanet.name(), result.get(0)
+				.getName());
+		assertEquals(syncedPlanet.climate(), result.get(0)
+				.getClimate());
+		assertEquals(syncedPlanet.terrain(), result.get(0)
+				.getTerrain());
+		assertEquals(appearances, result.get(0)
+				.getFilmAppearances());
+		assertFalse(result.get(0)
+				.getDegraded());
+		assertEquals(unsyncedPlanet.uuid(), result.get(1)
+				.getId());
+		assertEquals(0, result.get(1)
+				.getFilmAppearances());
+		assertTrue(result.get(1)
+				.getDegraded());
 	}
 
 	@Test
-	public void convertToFindPlanetResponse_shouldConvertEntryOfPlanet() {
-		final var planetName = getRandomString();
-		final var planetTerrain = getRandomString();
-		final var planetClimate = getRandomString();
-		final var planetId = getRandomString();
-		final var planetUser = getRandomString();
-
-		final var uuid = UUID.randomUUID();
-		final var planet = new Planet(planetId, uuid.toString(), planetName, planetClimate, planetTerrain,
-				LocalDateTime.now(), planetUser);
-
-		final var appearances = getRandomInteger();
-		final var planetsWithFilmAppearances = Map.entry(planet, appearances);
+	public void convertToBulkPlanetResponse_shouldConvertDeletedIds() {
+		final var deletedId = getRandomString();
+		final var notFoundId = getRandomString();
 
-		final var result = convertToFindPlanetResponse(planetsWithFilmAppearances);
+		final var result = convertToBulkPlanetResponse(List.of(deletedId, notFoundId), Set.of(deletedId));
 
-		assertEquals(planetName, result.getName());
-		assertEquals(planetClimate, result.getClimate());
-		assertEquals(planetTerrain, result.getTerrain());
-		assertEquals(uuid.toString(), result.getId());
-		assertEquals(appearances, result.getFilmAppearances());
+		assertEquals(List.of(new BulkPlanetResponse(0, deletedId, BulkOperationStatus.DELETED, null),
+				new BulkPlanetResponse(1, notFoundId, BulkOperationStatus.NOT_FOUND, null)), result);
 	}
-}
\ No newline at end of file
+}
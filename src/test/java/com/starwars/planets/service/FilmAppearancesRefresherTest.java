@@ -0,0 +1,122 @@
+package com.starwars.planets.service;
+
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.dto.FoundPlanetIntegration;
+import com.starwars.planets.exception.IntegrationException;
+import com.starwars.planets.model.Planet;
+import com.starwars.planets.repository.PlanetRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.starwars.planets.utils.TestUtils.getRandomInteger;
+import static com.starwars.planets.utils.TestUtils.getRandomString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class FilmAppearancesRefresherTest {
+
+	@Mock
+	private PlanetProperties propertiesMock;
+
+	@Mock
+	private PlanetRepository planetRepositoryMock;
+
+	@Mock
+	private StarWarsIntegration starWarsIntegrationMock;
+
+	@InjectMocks
+	private FilmAppearancesRefresher filmAppearancesRefresher;
+
+	@Test
+	public void refreshStaleFilmAppearances_shouldUpdateStalePlanets() {
+		final var filmAppearances = getRandomInteger();
+		final var foundPlanet = newPlanet();
+		final var notFoundPlanet = newPlanet();
+
+		when(propertiesMock.getFilmAppearancesStaleAfter()).thenReturn(Duration.ofHours(1));
+		when(propertiesMock.getFilmAppearancesRefreshBatchSize()).thenReturn(10);
+		when(planetRepositoryMock.findByFilmAppearancesSyncedAtIsNullOrFilmAppearancesSyncedAtBefore(any(), any()))
+				.thenReturn(List.of(foundPlanet, notFoundPlanet));
+		when(starWarsIntegrationMock.findPlanetsByNames(Set.of(foundPlanet.getName(), notFoundPlanet.getName())))
+				.thenReturn(Map.of(foundPlanet.getName(),
+						new FoundPlanetIntegration(foundPlanet.getName(), filmAppearances)));
+
+		filmAppearancesRefresher.refreshStaleFilmAppearances();
+
+		verify(planetRepositoryMock, times(1)).updateFilmAppearances(
+				eq(Map.of(foundPlanet.getId(), filmAppearances, notFoundPlanet.getId(), 0)), any(LocalDateTime.class));
+		verify(planetRepositoryMock, times(1)).incrementCollectionVersion();
+	}
+
+	@Test
+	public void refreshStaleFilmAppearances_shouldNotChangeCollectionVersionWhenCountsAreUnchanged() {
+		final var filmAppearances = getRandomInteger();
+		final var planet = newPlanet();
+		planet.setFilmAppearances(filmAppearances);
+
+		when(propertiesMock.getFilmAppearancesStaleAfter()).thenReturn(Duration.ofHours(1));
+		when(propertiesMock.getFilmAppearancesRefreshBatchSize()).thenReturn(10);
+		when(planetRepositoryMock.findByFilmAppearancesSyncedAtIsNullOrFilmAppearancesSyncedAtBefore(any(), any()))
+				.thenReturn(List.of(planet));
+		when(starWarsIntegrationMock.findPlanetsByNames(Set.of(planet.getName()))).thenReturn(
+				Map.of(planet.getName(), new FoundPlanetIntegration(planet.getName(), filmAppearances)));
+
+		filmAppearancesRefresher.refreshStaleFilmAppearances();
+
+		verify(planetRepositoryMock, times(1)).updateFilmAppearances(eq(Map.of(planet.getId(), filmAppearances)),
+				any(LocalDateTime.class));
+		verify(planetRepositoryMock, times(0)).incrementCollectionVersion();
+	}
+
+	@Test
+	public void refreshStaleFilmAppearances_shouldNotCallApiWithoutStalePlanets() {
+		when(propertiesMock.getFilmAppearancesStaleAfter()).thenReturn(Duration.ofHours(1));
+		when(propertiesMock.getFilmAppearancesRefreshBatchSize()).thenReturn(10);
+		when(planetRepositoryMock.findByFilmAppearancesSyncedAtIsNullOrFilmAppearancesSyncedAtBefore(any(), any()))
+				.thenReturn(Collections.emptyList());
+
+		filmAppearancesRefresher.refreshStaleFilmAppearances();
+
+		verifyNoInteractions(starWarsIntegrationMock);
+		verify(planetRepositoryMock, times(0)).updateFilmAppearances(anyMap(), any());
+	}
+
+	@Test
+	public void refreshStaleFilmAppearances_shouldKeepStoredValuesWhenIntegrationFails() {
+		final var stalePlanet = newPlanet();
+
+		when(propertiesMock.getFilmAppearancesStaleAfter()).thenReturn(Duration.ofHours(1));
+		when(propertiesMock.getFilmAppearancesRefreshBatchSize()).thenReturn(10);
+		when(planetRepositoryMock.findByFilmAppearancesSyncedAtIsNullOrFilmAppearancesSyncedAtBefore(any(), any()))
+				.thenReturn(List.of(stalePlanet));
+		when(starWarsIntegrationMock.findPlanetsByNames(Set.of(stalePlanet.getName()))).thenThrow(
+				new IntegrationException("Error contacting Star Wars API"));
+
+		filmAppearancesRefresher.refreshStaleFilmAppearances();
+
+		verify(planetRepositoryMock, times(0)).updateFilmAppearances(anyMap(), any());
+	}
+
+	private Planet newPlanet() {
+		return new Planet(getRandomString(), UUID.randomUUID()
+				.toString(), getRandomString(), getRandomString(), getRandomString(), LocalDateTime.now(),
+				getRandomString());
+	}
+}
@@ -0,0 +1,86 @@
+package com.starwars.planets.service;
+
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.model.Planet;
+import com.starwars.planets.repository.PlanetRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.starwars.planets.utils.TestUtils.getRandomString;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class NormalizedNameBackfillTest {
+
+	@Mock
+	private PlanetProperties propertiesMock;
+
+	@Mock
+	private PlanetRepository planetRepositoryMock;
+
+	@InjectMocks
+	private NormalizedNameBackfill normalizedNameBackfill;
+
+	@Test
+	public void run_shouldUpdateNormalizedNamesInBatches() {
+		final var planet1 = newPlanet(" Tatooine ");
+		final var planet2 = newPlanet("ALDERAAN");
+		final var planet3 = newPlanet("Hoth");
+
+		when(propertiesMock.getNormalizedNameBackfillBatchSize()).thenReturn(2);
+		when(planetRepositoryMock.streamByNormalizedNameIsNullAndNormalizedNameConflictIsNull()).thenReturn(
+				Stream.of(planet1, planet2, planet3));
+
+		normalizedNameBackfill.run(null);
+
+		verify(planetRepositoryMock, times(1)).updateNormalizedNames(
+				Map.of(planet1.getId(), "tatooine", planet2.getId(), "alderaan"));
+		verify(planetRepositoryMock, times(1)).updateNormalizedNames(Map.of(planet3.getId(), "hoth"));
+	}
+
+	@Test
+	public void run_shouldMarkPlanetsWithConflictingNormalizedNames() {
+		final var planet = newPlanet("Tatooine");
+		final var otherPlanet = newPlanet("Hoth");
+
+		when(propertiesMock.getNormalizedNameBackfillBatchSize()).thenReturn(1);
+		when(planetRepositoryMock.streamByNormalizedNameIsNullAndNormalizedNameConflictIsNull()).thenReturn(
+				Stream.of(planet, otherPlanet));
+		when(planetRepositoryMock.updateNormalizedNames(Map.of(planet.getId(), "tatooine"))).thenReturn(
+				Set.of(planet.getId()));
+		when(planetRepositoryMock.updateNormalizedNames(Map.of(otherPlanet.getId(), "hoth"))).thenReturn(Set.of());
+
+		normalizedNameBackfill.run(null);
+
+		verify(planetRepositoryMock, times(2)).updateNormalizedNames(anyMap());
+		verify(planetRepositoryMock, times(1)).markNormalizedNameConflicts(Set.of(planet.getId()));
+	}
+
+	@Test
+	public void run_shouldNotUpdateWithoutPlanetsToBackfill() {
+		when(propertiesMock.getNormalizedNameBackfillBatchSize()).thenReturn(10);
+		when(planetRepositoryMock.streamByNormalizedNameIsNullAndNormalizedNameConflictIsNull()).thenReturn(
+				Stream.empty());
+
+		normalizedNameBackfill.run(null);
+
+		verify(planetRepositoryMock, times(0)).updateNormalizedNames(anyMap());
+	}
+
+	private Planet newPlanet(String name) {
+		return new Planet(getRandomString(), UUID.randomUUID()
+				.toString(), name, getRandomString(), getRandomString(), LocalDateTime.now(), getRandomString());
+	}
+}
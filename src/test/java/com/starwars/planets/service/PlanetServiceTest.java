@@ -1,25 +1,50 @@
 package com.starwars.planets.service;
 
 import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.dto.BulkCreateResult;
+import com.starwars.planets.dto.BulkOperationStatus;
 import com.starwars.planets.dto.FoundPlanetIntegration;
+import com.starwars.planets.dto.PlanetSummary;
+import com.starwars.planets.event.PlanetsCreatedEvent;
+import com.starwars.planets.event.PlanetsDeletedEvent;
 import com.starwars.planets.exception.ConflictException;
 import com.starwars.planets.exception.DataNotFoundException;
+import com.starwars.planets.exception.IntegrationException;
 import com.starwars.planets.model.Planet;
 import com.starwars.planets.repository.PlanetRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import static com.starwars.planets.model.Planet.normalizeName;
+import static com.starwars.planets.service.PlanetService.ENRICHMENT_STEP;
+import static com.starwars.planets.service.PlanetService.MONGO_STEP;
+import static com.starwars.planets.service.PlanetService.PLANET_OPERATIONS_METRIC;
+import static com.starwars.planets.service.PlanetService.ZERO_APPEARANCES;
 import static com.starwars.planets.utils.TestUtils.getRandomInteger;
 import static com.starwars.planets.utils.TestUtils.getRandomString;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -27,11 +52,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +74,12 @@ public class PlanetServiceTest {
 	@Mock
 	private StarWarsIntegration starWarsIntegrationMock;
 
+	@Spy
+	private SimpleMeterRegistry meterRegistry;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisherMock;
+
 	@InjectMocks
 	private PlanetService planetService;
 
@@ -61,9 +95,11 @@ public class PlanetServiceTest {
 		final var outPlanet = new Planet(getRandomString(), UUID.randomUUID()
 				.toString(), planetName, planetClimate, planetTerrain, LocalDateTime.now(), "user");
 		final var applicationName = "ApplicationName";
+		final var filmAppearances = getRandomInteger();
 
-		when(planetRepositoryMock.findByNameIgnoreCase(incomePlanet.getName())).thenReturn(Optional.empty());
-		when(planetRepositoryMock.save(planetArgumentCaptor.capture())).thenReturn(outPlanet);
+		when(starWarsIntegrationMock.findOnePlanetByName(planetName)).thenReturn(
+				Optional.of(new FoundPlanetIntegration(planetName, filmAppearances)));
+		when(planetRepositoryMock.insert(planetArgumentCaptor.capture())).thenReturn(outPlanet);
 		when(propertiesMock.getApplicationName()).thenReturn(applicationName);
 
 		final var result = planetService.createPlanet(incomePlanet);
@@ -76,15 +112,57 @@ public class PlanetServiceTest {
 		assertEquals(incomePlanet.getClimate(), argumentCaptorValue.getClimate());
 		assertEquals(incomePlanet.getTerrain(), argumentCaptorValue.getTerrain());
 		assertEquals(incomePlanet.getCreatedBy(), argumentCaptorValue.getCreatedBy());
+		assertEquals(filmAppearances, argumentCaptorValue.getFilmAppearances());
+		assertEquals(normalizeName(planetName), argumentCaptorValue.getNormalizedName());
 		assertDoesNotThrow(() -> UUID.fromString(argumentCaptorValue.getUuid()));
 		assertNotNull(argumentCaptorValue.getCreateAt());
+		assertNotNull(argumentCaptorValue.getFilmAppearancesSyncedAt());
 		assertNull(argumentCaptorValue.getId());
 
-		verify(planetRepositoryMock, times(1)).findByNameIgnoreCase(incomePlanet.getName());
-		verify(planetRepositoryMock, times(1)).save(argumentCaptorValue);
+		verify(planetRepositoryMock, times(0)).findByNormalizedName(anyString());
+		verify(starWarsIntegrationMock, times(1)).findOnePlanetByName(planetName);
+		verify(planetRepositoryMock, times(1)).insert(argumentCaptorValue);
+		verify(planetRepositoryMock, times(1)).incrementCollectionVersion();
+		verify(eventPublisherMock, times(1)).publishEvent(PlanetsCreatedEvent.of(List.of(outPlanet)));
 		verify(propertiesMock, times(1)).getApplicationName();
 	}
 
+	@Test
+	public void createPlanet_shouldCreatePlanetWhenCollectionVersionFails() {
+		final var incomePlanet = new Planet(getRandomString(), getRandomString(), getRandomString());
+		final var outPlanet = newPlanet(getRandomString());
+
+		when(starWarsIntegrationMock.findOnePlanetByName(incomePlanet.getName())).thenReturn(Optional.empty());
+		when(planetRepositoryMock.insert(incomePlanet)).thenReturn(outPlanet);
+		doThrow(new DataAccessResourceFailureException(getRandomString())).when(planetRepositoryMock)
+				.incrementCollectionVersion();
+
+		final var result = planetService.createPlanet(incomePlanet);
+
+		assertEquals(outPlanet, result);
+
+		verify(planetRepositoryMock, times(1)).incrementCollectionVersion();
+	}
+
+	@Test
+	public void createPlanet_shouldCreateUnsyncedPlanetWhenIntegrationFails() {
+		final var planetName = getRandomString();
+		final var incomePlanet = new Planet(planetName, getRandomString(), getRandomString());
+
+		when(starWarsIntegrationMock.findOnePlanetByName(planetName)).thenThrow(
+				new IntegrationException("Error contacting Star Wars API"));
+		when(planetRepositoryMock.insert(planetArgumentCaptor.capture())).thenReturn(incomePlanet);
+
+		planetService.createPlanet(incomePlanet);
+
+		final var argumentCaptorValue = planetArgumentCaptor.getValue();
+
+		assertNull(argumentCaptorValue.getFilmAppearances());
+		assertNull(argumentCaptorValue.getFilmAppearancesSyncedAt());
+
+		verify(planetRepositoryMock, times(1)).insert(argumentCaptorValue);
+	}
+
 	@Test
 	public void createPlanet_shouldNotCreateWhenNameAlreadyExists() {
 		final var planetName = getRandomString();
@@ -92,95 +170,239 @@ public class PlanetServiceTest {
 		final var planetClimate = getRandomString();
 		final var incomePlanet = new Planet(planetName, planetClimate, planetTerrain);
 
-		when(planetRepositoryMock.findByNameIgnoreCase(incomePlanet.getName())).thenReturn(Optional.of(new Planet()));
+		when(starWarsIntegrationMock.findOnePlanetByName(planetName)).thenReturn(Optional.empty());
+		when(planetRepositoryMock.insert(any(Planet.class))).thenThrow(new DuplicateKeyException("E11000 duplicate key"));
 
 		final var assertThrows = assertThrows(ConflictException.class, () -> planetService.createPlanet(incomePlanet));
 		assertEquals(String.format("Planet with name %s already exist", incomePlanet.getName()), assertThrows.getMessage());
-		verify(planetRepositoryMock, times(1)).findByNameIgnoreCase(incomePlanet.getName());
+		verify(planetRepositoryMock, times(1)).insert(incomePlanet);
+		verify(planetRepositoryMock, times(0)).save(any());
 	}
 
 	@Test
-	public void findPlanetsWithFilmAppearances_shouldFindWithNameParameter() {
+	public void createPlanet_shouldRecordMongoAndEnrichmentTime() {
 		final var planetName = getRandomString();
-		final var planetTerrain = getRandomString();
-		final var planetClimate = getRandomString();
-		final var planetId = getRandomString();
-		final var planetUser = getRandomString();
+		final var incomePlanet = new Planet(planetName, getRandomString(), getRandomString());
+
+		when(starWarsIntegrationMock.findOnePlanetByName(planetName)).thenReturn(Optional.empty());
+		when(planetRepositoryMock.insert(incomePlanet)).thenReturn(incomePlanet);
 
-		final var foundPlanet1 = new Planet(planetId, UUID.randomUUID()
-				.toString(), planetName, planetClimate, planetTerrain, LocalDateTime.now(), planetUser);
+		planetService.createPlanet(incomePlanet);
 
+		assertEquals(1, meterRegistry.get(PLANET_OPERATIONS_METRIC)
+				.tags("operation", "create", "step", ENRICHMENT_STEP)
+				.timer()
+				.count());
+		assertEquals(1, meterRegistry.get(PLANET_OPERATIONS_METRIC)
+				.tags("operation", "create", "step", MONGO_STEP)
+				.timer()
+				.count());
+	}
+
+	@Test
+	public void createPlanets_shouldReportConflictsOfBulkInsert() {
+		final var tatooine = new Planet("Tatooine", getRandomString(), getRandomString());
+		final var hoth = new Planet("Hoth", getRandomString(), getRandomString());
 		final var filmAppearances = getRandomInteger();
-		final var foundPlanetIntegration = new FoundPlanetIntegration(planetName, filmAppearances);
-		when(planetRepositoryMock.findByNameIgnoreCase(planetName)).thenReturn(Optional.of(foundPlanet1));
-		when(starWarsIntegrationMock.findOnePlanetByName(foundPlanet1.getName())).thenReturn(
-				Optional.of(foundPlanetIntegration));
 
-		final var result = planetService.findPlanetsWithFilmAppearances(planetName);
+		when(propertiesMock.getBulkMaxSize()).thenReturn(10);
+		when(starWarsIntegrationMock.findPlanetsByNames(Set.of("Tatooine", "Hoth"))).thenReturn(
+				Map.of("tatooine", new FoundPlanetIntegration("Tatooine", filmAppearances)));
+		when(planetRepositoryMock.insertIgnoringDuplicates(List.of(tatooine, hoth))).thenReturn(Set.of(1));
 
-		assertEquals(1, result.size());
-		result.forEach((key, value) -> {
-			assertEquals(filmAppearances, value);
-			assertEquals(foundPlanet1, key);
-		});
+		final var result = planetService.createPlanets(List.of(tatooine, hoth));
 
-		verify(planetRepositoryMock, times(1)).findByNameIgnoreCase(planetName);
-		verify(starWarsIntegrationMock, times(1)).findOnePlanetByName(planetName);
+		assertEquals(List.of(new BulkCreateResult(tatooine, BulkOperationStatus.CREATED),
+				new BulkCreateResult(hoth, BulkOperationStatus.CONFLICT)), result);
+		assertEquals(filmAppearances, tatooine.getFilmAppearances());
+		assertEquals(ZERO_APPEARANCES, hoth.getFilmAppearances());
+		assertEquals("hoth", hoth.getNormalizedName());
+		assertNotNull(tatooine.getUuid());
+		assertNotNull(hoth.getFilmAppearancesSyncedAt());
+
+		verify(eventPublisherMock, times(1)).publishEvent(any(Object.class));
+		verify(eventPublisherMock, times(1)).publishEvent(
+				new PlanetsCreatedEvent(Set.of(tatooine.getUuid()), Set.of("tatooine")));
 	}
 
 	@Test
-	public void findPlanetsWithFilmAppearances_shouldFindWithoutNameParameter() {
+	public void createPlanets_shouldCreateUnsyncedPlanetsWhenIntegrationFails() {
+		final var planet = new Planet(getRandomString(), getRandomString(), getRandomString());
+
+		when(propertiesMock.getBulkMaxSize()).thenReturn(10);
+		when(starWarsIntegrationMock.findPlanetsByNames(any())).thenThrow(
+				new IntegrationException("Error contacting Star Wars API"));
+		when(planetRepositoryMock.insertIgnoringDuplicates(List.of(planet))).thenReturn(Set.of());
+
+		final var result = planetService.createPlanets(List.of(planet));
+
+		assertEquals(List.of(new BulkCreateResult(planet, BulkOperationStatus.CREATED)), result);
+		assertNull(planet.getFilmAppearances());
+		assertNull(planet.getFilmAppearancesSyncedAt());
+	}
+
+	@Test
+	public void createPlanets_shouldNotCreateMorePlanetsThanMaxSize() {
+		final var planets = List.of(new Planet(getRandomString(), getRandomString(), getRandomString()),
+				new Planet(getRandomString(), getRandomString(), getRandomString()));
+
+		when(propertiesMock.getBulkMaxSize()).thenReturn(1);
+
+		final var assertThrows = assertThrows(IllegalArgumentException.class, () -> planetService.createPlanets(planets));
+
+		assertEquals("Bulk operations accept at most 1 planets", assertThrows.getMessage());
+		verifyNoInteractions(planetRepositoryMock, starWarsIntegrationMock);
+	}
+
+	@Test
+	public void createPlanets_shouldNotCallRepositoryWithoutPlanets() {
+		when(propertiesMock.getBulkMaxSize()).thenReturn(1);
+
+		assertTrue(planetService.createPlanets(List.of())
+				.isEmpty());
+		verifyNoInteractions(planetRepositoryMock, starWarsIntegrationMock);
+	}
+
+	@Test
+	public void findPlanetsWithFilmAppearances_shouldFindWithNameParameter() {
 		final var planetName = getRandomString();
 		final var planetTerrain = getRandomString();
 		final var planetClimate = getRandomString();
 		final var planetId = getRandomString();
-		final var planetUser = getRandomString();
+		final var filmAppearances = getRandomInteger();
 
-		final var planetName2 = getRandomString();
-		final var planetTerrain2 = getRandomString();
-		final var planetClimate2 = getRandomString();
-		final var planetId2 = getRandomString();
-		final var planetUser2 = getRandomString();
+		final var foundPlanet1 = new PlanetSummary(planetId, UUID.randomUUID()
+				.toString(), planetName, planetClimate, planetTerrain, filmAppearances);
 
-		final var foundPlanet1 = new Planet(planetId, UUID.randomUUID()
-				.toString(), planetName, planetClimate, planetTerrain, LocalDateTime.now(), planetUser);
+		when(planetRepositoryMock.findByNormalizedName(normalizeName(planetName))).thenReturn(Optional.of(foundPlanet1));
 
-		final var foundPlanet2 = new Planet(planetId2, UUID.randomUUID()
-				.toString(), planetName2, planetClimate2, planetTerrain2, LocalDateTime.now(), planetUser2);
+		final var result = planetService.findPlanetsWithFilmAppearances(planetName, null, null, null);
 
-		final var filmAppearances1 = getRandomInteger();
-		final var foundPlanetIntegration1 = new FoundPlanetIntegration(planetName, filmAppearances1);
+		assertEquals(List.of(foundPlanet1), result.planets());
+		assertNull(result.nextCursor());
 
-		final var filmAppearances2 = getRandomInteger();
-		final var foundPlanetIntegration2 = new FoundPlanetIntegration(planetName2, filmAppearances2);
-		when(planetRepositoryMock.findAll()).thenReturn(List.of(foundPlanet1, foundPlanet2));
-		when(starWarsIntegrationMock.findOnePlanetByName(foundPlanet1.getName())).thenReturn(
-				Optional.of(foundPlanetIntegration1));
-		when(starWarsIntegrationMock.findOnePlanetByName(foundPlanet2.getName())).thenReturn(
-				Optional.of(foundPlanetIntegration2));
+		verify(planetRepositoryMock, times(1)).findByNormalizedName(normalizeName(planetName));
+		verify(planetRepositoryMock, times(0)).findAllBy(any());
+		verifyNoInteractions(starWarsIntegrationMock);
+	}
 
-		final var result = planetService.findPlanetsWithFilmAppearances(null);
+	@Test
+	public void findPlanetsWithFilmAppearances_shouldFindFirstPageWithoutNameParameter() {
+		final var foundPlanet1 = newPlanetSummary(new ObjectId().toHexString());
+		final var foundPlanet2 = newPlanetSummary(new ObjectId().toHexString());
+		final var pageRequest = PageRequest.of(0, 2, Sort.by("id"));
+
+		when(propertiesMock.getPageDefaultSize()).thenReturn(2);
+		when(planetRepositoryMock.findAllBy(pageRequest)).thenReturn(
+				new SliceImpl<>(List.of(foundPlanet1, foundPlanet2), pageRequest, true));
+
+		final var result = planetService.findPlanetsWithFilmAppearances(null, null, null, null);
+
+		assertEquals(List.of(foundPlanet1, foundPlanet2), result.planets());
+		assertEquals(Base64.getUrlEncoder()
+				.withoutPadding()
+				.encodeToString(foundPlanet2.id()
+						.getBytes()), result.nextCursor());
+
+		verify(planetRepositoryMock, times(0)).findByNormalizedName(anyString());
+		verify(planetRepositoryMock, times(1)).findAllBy(pageRequest);
+		verifyNoInteractions(starWarsIntegrationMock);
+	}
 
-		assertEquals(2, result.size());
-		assertEquals(filmAppearances1, result.get(foundPlanet1));
-		assertEquals(filmAppearances2, result.get(foundPlanet2));
+	@Test
+	public void findPlanetsWithFilmAppearances_shouldFindPageAfterCursor() {
+		final var lastId = new ObjectId().toHexString();
+		final var cursor = Base64.getUrlEncoder()
+				.withoutPadding()
+				.encodeToString(lastId.getBytes());
+		final var foundPlanet = newPlanetSummary(new ObjectId().toHexString());
+		final var pageRequest = PageRequest.of(0, 10, Sort.by("id"));
 
-		verify(planetRepositoryMock, times(0)).findByNameIgnoreCase(anyString());
-		verify(planetRepositoryMock, times(1)).findAll();
-		verify(starWarsIntegrationMock, times(1)).findOnePlanetByName(planetName);
-		verify(starWarsIntegrationMock, times(1)).findOnePlanetByName(planetName2);
+		when(propertiesMock.getPageMaxSize()).thenReturn(100);
+		when(planetRepositoryMock.findByIdGreaterThan(lastId, pageRequest)).thenReturn(
+				new SliceImpl<>(List.of(foundPlanet), pageRequest, false));
+
+		final var result = planetService.findPlanetsWithFilmAppearances(null, null, 10, cursor);
+
+		assertEquals(List.of(foundPlanet), result.planets());
+		assertNull(result.nextCursor());
+
+		verify(planetRepositoryMock, times(1)).findByIdGreaterThan(lastId, pageRequest);
+		verify(planetRepositoryMock, times(0)).findAllBy(any());
+	}
+
+	@Test
+	public void findPlanetsWithFilmAppearances_shouldNotAcceptInvalidCursor() {
+		final var assertThrows = assertThrows(IllegalArgumentException.class,
+				() -> planetService.findPlanetsWithFilmAppearances(null, null, null, "not-a-cursor"));
+
+		assertEquals("Invalid cursor", assertThrows.getMessage());
+		verifyNoInteractions(planetRepositoryMock);
+	}
+
+	@Test
+	public void findPlanetsWithFilmAppearances_shouldNotAcceptPageAndCursor() {
+		assertThrows(IllegalArgumentException.class,
+				() -> planetService.findPlanetsWithFilmAppearances(null, 1, null, getRandomString()));
+
+		verifyNoInteractions(planetRepositoryMock);
+	}
+
+	@Test
+	public void findPlanetsWithFilmAppearances_shouldNotAcceptPageSizeAboveMax() {
+		when(propertiesMock.getPageMaxSize()).thenReturn(100);
+
+		final var assertThrows = assertThrows(IllegalArgumentException.class,
+				() -> planetService.findPlanetsWithFilmAppearances(null, null, 101, null));
+
+		assertEquals("Page size must be between 1 and 100", assertThrows.getMessage());
+		verifyNoInteractions(planetRepositoryMock);
 	}
 
 	@Test
 	public void findPlanetsWithFilmAppearances_shouldNotFoundAnyPlanet() {
-		when(planetRepositoryMock.findAll()).thenReturn(Collections.emptyList());
+		final var pageRequest = PageRequest.of(0, 2, Sort.by("id"));
+
+		when(propertiesMock.getPageDefaultSize()).thenReturn(2);
+		when(planetRepositoryMock.findAllBy(pageRequest)).thenReturn(
+				new SliceImpl<>(Collections.emptyList(), pageRequest, false));
+
+		final var result = planetService.findPlanetsWithFilmAppearances(null, null, null, null);
+
+		assertEquals(0, result.planets()
+				.size());
+		assertNull(result.nextCursor());
+		verify(planetRepositoryMock, times(0)).findByNormalizedName(anyString());
+		verify(planetRepositoryMock, times(1)).findAllBy(pageRequest);
+		verifyNoInteractions(starWarsIntegrationMock);
+	}
+
+	@Test
+	public void exportPlanets_shouldStreamPlanetsInWindows() {
+		final var planets = List.of(newPlanetSummary(getRandomString()), newPlanetSummary(getRandomString()),
+				newPlanetSummary(getRandomString()));
+		final var windows = new ArrayList<List<PlanetSummary>>();
+
+		when(propertiesMock.getExportWindowSize()).thenReturn(2);
+		when(planetRepositoryMock.streamAllBy()).thenReturn(planets.stream());
 
-		final var result = planetService.findPlanetsWithFilmAppearances(null);
+		planetService.exportPlanets(windows::add);
 
-		assertEquals(0, result.size());
-		verify(planetRepositoryMock, times(0)).findByNameIgnoreCase(anyString());
-		verify(starWarsIntegrationMock, times(0)).findOnePlanetByName(anyString());
-		verify(planetRepositoryMock, times(1)).findAll();
+		assertEquals(List.of(planets.subList(0, 2), planets.subList(2, 3)), windows);
+		verify(planetRepositoryMock, times(1)).streamAllBy();
+		verifyNoInteractions(starWarsIntegrationMock);
+	}
+
+	@Test
+	public void exportPlanets_shouldNotCallConsumerWithoutPlanets() {
+		final var windows = new ArrayList<List<PlanetSummary>>();
+
+		when(propertiesMock.getExportWindowSize()).thenReturn(2);
+		when(planetRepositoryMock.streamAllBy()).thenReturn(Stream.empty());
+
+		planetService.exportPlanets(windows::add);
+
+		assertTrue(windows.isEmpty());
 	}
 
 	@Test
@@ -189,41 +411,35 @@ public class PlanetServiceTest {
 		final var planetTerrain = getRandomString();
 		final var planetClimate = getRandomString();
 		final var planetId = getRandomString();
-		final var planetUser = getRandomString();
 		final var uuid = UUID.randomUUID()
 				.toString();
-
-		final var foundPlanet = new Planet(planetId, uuid, planetName, planetClimate, planetTerrain, LocalDateTime.now(),
-				planetUser);
-
 		final var filmAppearances = getRandomInteger();
-		final var foundPlanetIntegration = new FoundPlanetIntegration(planetName, filmAppearances);
 
-		when(planetRepositoryMock.findByUuid(uuid)).thenReturn(Optional.of(foundPlanet));
-		when(starWarsIntegrationMock.findOnePlanetByName(foundPlanet.getName())).thenReturn(
-				Optional.of(foundPlanetIntegration));
+		final var foundPlanet = new PlanetSummary(planetId, uuid, planetName, planetClimate, planetTerrain,
+				filmAppearances);
+
+		when(planetRepositoryMock.findByUuid(uuid, PlanetSummary.class)).thenReturn(Optional.of(foundPlanet));
 
 		final var result = planetService.findPlanetWithFilmAppearancesById(uuid);
 
-		assertEquals(foundPlanet, result.getKey());
-		assertEquals(filmAppearances, result.getValue());
+		assertEquals(foundPlanet, result);
 
-		verify(planetRepositoryMock, times(1)).findByUuid(uuid);
-		verify(starWarsIntegrationMock, times(1)).findOnePlanetByName(planetName);
+		verify(planetRepositoryMock, times(1)).findByUuid(uuid, PlanetSummary.class);
+		verifyNoInteractions(starWarsIntegrationMock);
 	}
 
 	@Test
 	public void findPlanetWithFilmAppearancesById_shouldNotFind() {
 		final var uuid = UUID.randomUUID()
 				.toString();
-		when(planetRepositoryMock.findByUuid(uuid)).thenReturn(Optional.empty());
+		when(planetRepositoryMock.findByUuid(uuid, PlanetSummary.class)).thenReturn(Optional.empty());
 
 		final var assertThrows = assertThrows(DataNotFoundException.class,
 				() -> planetService.findPlanetWithFilmAppearancesById(uuid));
 
 		assertEquals("Planet not found", assertThrows.getMessage());
 
-		verify(planetRepositoryMock, times(1)).findByUuid(uuid);
+		verify(planetRepositoryMock, times(1)).findByUuid(uuid, PlanetSummary.class);
 		verify(starWarsIntegrationMock, times(0)).findOnePlanetByName(any());
 	}
 
@@ -248,6 +464,38 @@ public class PlanetServiceTest {
 
 		verify(planetRepositoryMock, times(1)).findByUuid(uuid);
 		verify(planetRepositoryMock, times(1)).delete(foundPlanet);
+		verify(planetRepositoryMock, times(1)).incrementCollectionVersion();
+		verify(eventPublisherMock, times(1)).publishEvent(PlanetsDeletedEvent.of(List.of(foundPlanet)));
+	}
+
+	@Test
+	public void deletePlanetById_shouldDeleteWhenCollectionVersionFails() {
+		final var foundPlanet = newPlanet(getRandomString());
+
+		when(planetRepositoryMock.findByUuid(foundPlanet.getUuid())).thenReturn(Optional.of(foundPlanet));
+		doThrow(new DataAccessResourceFailureException(getRandomString())).when(planetRepositoryMock)
+				.incrementCollectionVersion();
+
+		assertDoesNotThrow(() -> planetService.deletePlanetById(foundPlanet.getUuid()));
+
+		verify(planetRepositoryMock, times(1)).delete(foundPlanet);
+	}
+
+	@Test
+	public void deletePlanetsById_shouldReturnDeletedIds() {
+		final var deletedPlanet = newPlanet(getRandomString());
+		final var notFoundId = UUID.randomUUID()
+				.toString();
+
+		when(propertiesMock.getBulkMaxSize()).thenReturn(10);
+		when(planetRepositoryMock.deleteByUuidIn(Set.of(deletedPlanet.getUuid(), notFoundId))).thenReturn(
+				List.of(deletedPlanet));
+
+		final var result = planetService.deletePlanetsById(List.of(deletedPlanet.getUuid(), notFoundId));
+
+		assertEquals(Set.of(deletedPlanet.getUuid()), result);
+
+		verify(eventPublisherMock, times(1)).publishEvent(PlanetsDeletedEvent.of(List.of(deletedPlanet)));
 	}
 
 	@Test
@@ -262,5 +510,18 @@ public class PlanetServiceTest {
 
 		verify(planetRepositoryMock, times(1)).findByUuid(uuid);
 		verify(planetRepositoryMock, times(0)).delete(any());
+		verify(planetRepositoryMock, times(0)).incrementCollectionVersion();
+		verify(eventPublisherMock, times(0)).publishEvent(any(Object.class));
+	}
+
+	private PlanetSummary newPlanetSummary(String id) {
+		return new PlanetSummary(id, UUID.randomUUID()
+				.toString(), getRandomString(), getRandomString(), getRandomString(), getRandomInteger());
+	}
+
+	private Planet newPlanet(String id) {
+		return new Planet(id, UUID.randomUUID()
+				.toString(), getRandomString(), getRandomString(), getRandomString(), LocalDateTime.now(),
+				getRandomString());
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,239 @@
+package com.starwars.planets.service;
+
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.dto.FoundPlanetIntegration;
+import com.starwars.planets.dto.PlanetSummary;
+import com.starwars.planets.event.PlanetsCreatedEvent;
+import com.starwars.planets.event.PlanetsDeletedEvent;
+import com.starwars.planets.exception.ConflictException;
+import com.starwars.planets.exception.DataNotFoundException;
+import com.starwars.planets.exception.IntegrationException;
+import com.starwars.planets.model.Planet;
+import com.starwars.planets.repository.ReactivePlanetRepository;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static com.starwars.planets.utils.TestUtils.getRandomInteger;
+import static com.starwars.planets.utils.TestUtils.getRandomString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactivePlanetServiceTest {
+
+	@Mock
+	private PlanetProperties propertiesMock;
+
+	@Mock
+	private ReactivePlanetRepository planetRepositoryMock;
+
+	@Mock
+	private ReactiveStarWarsIntegration starWarsIntegrationMock;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisherMock;
+
+	@InjectMocks
+	private ReactivePlanetService planetService;
+
+	@Captor
+	private ArgumentCaptor<Planet> planetArgumentCaptor;
+
+	@Test
+	public void createPlanet_shouldCreatePlanet() {
+		final var planetName = getRandomString();
+		final var incomePlanet = new Planet(planetName, getRandomString(), getRandomString());
+		final var filmAppearances = getRandomInteger();
+
+		when(starWarsIntegrationMock.findOnePlanetByName(planetName)).thenReturn(
+				Mono.just(new FoundPlanetIntegration(planetName, filmAppearances)));
+		when(planetRepositoryMock.insert(planetArgumentCaptor.capture())).thenReturn(Mono.just(incomePlanet));
+		when(planetRepositoryMock.incrementCollectionVersion()).thenReturn(Mono.empty());
+		when(propertiesMock.getApplicationName()).thenReturn("ApplicationName");
+
+		StepVerifier.create(planetService.createPlanet(incomePlanet))
+				.expectNext(incomePlanet)
+				.verifyComplete();
+
+		verify(planetRepositoryMock, times(1)).incrementCollectionVersion();
+		verify(eventPublisherMock, times(1)).publishEvent(PlanetsCreatedEvent.of(List.of(incomePlanet)));
+
+		final var argumentCaptorValue = planetArgumentCaptor.getValue();
+
+		assertEquals(filmAppearances, argumentCaptorValue.getFilmAppearances());
+		assertEquals("ApplicationName", argumentCaptorValue.getCreatedBy());
+		assertNotNull(UUID.fromString(argumentCaptorValue.getUuid()));
+		assertNotNull(argumentCaptorValue.getCreateAt());
+		assertNotNull(argumentCaptorValue.getFilmAppearancesSyncedAt());
+	}
+
+	@Test
+	public void createPlanet_shouldCreateUnsyncedPlanetWhenIntegrationFails() {
+		final var planetName = getRandomString();
+		final var incomePlanet = new Planet(planetName, getRandomString(), getRandomString());
+
+		when(starWarsIntegrationMock.findOnePlanetByName(planetName)).thenReturn(
+				Mono.error(new IntegrationException("Error contacting Star Wars API")));
+		when(planetRepositoryMock.insert(planetArgumentCaptor.capture())).thenReturn(Mono.just(incomePlanet));
+		when(planetRepositoryMock.incrementCollectionVersion()).thenReturn(Mono.empty());
+
+		StepVerifier.create(planetService.createPlanet(incomePlanet))
+				.expectNext(incomePlanet)
+				.verifyComplete();
+
+		assertNull(planetArgumentCaptor.getValue()
+				.getFilmAppearances());
+		assertNull(planetArgumentCaptor.getValue()
+				.getFilmAppearancesSyncedAt());
+	}
+
+	@Test
+	public void createPlanet_shouldNotCreateWhenNameAlreadyExists() {
+		final var planetName = getRandomString();
+		final var incomePlanet = new Planet(planetName, getRandomString(), getRandomString());
+
+		when(starWarsIntegrationMock.findOnePlanetByName(planetName)).thenReturn(Mono.empty());
+		when(planetRepositoryMock.insert(any(Planet.class))).thenReturn(
+				Mono.error(new DuplicateKeyException("E11000 duplicate key")));
+
+		StepVerifier.create(planetService.createPlanet(incomePlanet))
+				.expectErrorMatches(x -> x instanceof ConflictException && x.getMessage()
+						.equals(String.format("Planet with name %s already exist", planetName)))
+				.verify();
+
+		verify(planetRepositoryMock, times(1)).insert(incomePlanet);
+	}
+
+	@Test
+	public void findPlanetsWithFilmAppearances_shouldReturnCursorWhenMorePlanetsExist() {
+		final var planets = List.of(newPlanetSummary(new ObjectId().toHexString()),
+				newPlanetSummary(new ObjectId().toHexString()));
+		final var lastId = planets.get(1)
+				.id();
+		final var pageRequest = PageRequest.of(0, 2, Sort.by("id"));
+
+		when(propertiesMock.getPageMaxSize()).thenReturn(10);
+		when(planetRepositoryMock.findAllBy(pageRequest)).thenReturn(Flux.fromIterable(planets));
+		when(planetRepositoryMock.existsByIdGreaterThan(lastId)).thenReturn(Mono.just(true));
+
+		StepVerifier.create(planetService.findPlanetsWithFilmAppearances(null, null, 2, null))
+				.assertNext(x -> {
+					assertEquals(planets, x.planets());
+					assertEquals(lastId, new String(Base64.getUrlDecoder()
+							.decode(x.nextCursor()), StandardCharsets.UTF_8));
+				})
+				.verifyComplete();
+	}
+
+	@Test
+	public void findPlanetsWithFilmAppearances_shouldFindPlanetsAfterCursor() {
+		final var lastId = new ObjectId().toHexString();
+		final var cursor = Base64.getUrlEncoder()
+				.withoutPadding()
+				.encodeToString(lastId.getBytes(StandardCharsets.UTF_8));
+		final var planets = List.of(newPlanetSummary(new ObjectId().toHexString()));
+		final var pageRequest = PageRequest.of(0, 2, Sort.by("id"));
+
+		when(propertiesMock.getPageMaxSize()).thenReturn(10);
+		when(planetRepositoryMock.findByIdGreaterThan(lastId, pageRequest)).thenReturn(Flux.fromIterable(planets));
+
+		StepVerifier.create(planetService.findPlanetsWithFilmAppearances(null, null, 2, cursor))
+				.assertNext(x -> {
+					assertEquals(planets, x.planets());
+					assertNull(x.nextCursor());
+				})
+				.verifyComplete();
+
+		verify(planetRepositoryMock, times(0)).existsByIdGreaterThan(any());
+	}
+
+	@Test
+	public void findPlanetsWithFilmAppearances_shouldErrorWhenCursorIsInvalid() {
+		when(propertiesMock.getPageDefaultSize()).thenReturn(10);
+
+		StepVerifier.create(planetService.findPlanetsWithFilmAppearances(null, null, null, getRandomString()))
+				.expectErrorMatches(x -> x instanceof IllegalArgumentException && x.getMessage()
+						.equals("Invalid cursor"))
+				.verify();
+	}
+
+	@Test
+	public void findPlanetWithFilmAppearancesById_shouldErrorWhenPlanetNotFound() {
+		final var planetId = getRandomString();
+
+		when(planetRepositoryMock.findByUuid(planetId, PlanetSummary.class)).thenReturn(Mono.empty());
+
+		StepVerifier.create(planetService.findPlanetWithFilmAppearancesById(planetId))
+				.expectError(DataNotFoundException.class)
+				.verify();
+	}
+
+	@Test
+	public void deletePlanetById_shouldDeletePlanet() {
+		final var planetId = getRandomString();
+		final var planet = newPlanet(new ObjectId().toHexString());
+
+		when(planetRepositoryMock.findByUuid(planetId)).thenReturn(Mono.just(planet));
+		when(planetRepositoryMock.delete(planet)).thenReturn(Mono.empty());
+		when(planetRepositoryMock.incrementCollectionVersion()).thenReturn(Mono.empty());
+
+		StepVerifier.create(planetService.deletePlanetById(planetId))
+				.verifyComplete();
+
+		verify(planetRepositoryMock, times(1)).delete(planet);
+		verify(planetRepositoryMock, times(1)).incrementCollectionVersion();
+		verify(eventPublisherMock, times(1)).publishEvent(PlanetsDeletedEvent.of(List.of(planet)));
+	}
+
+	@Test
+	public void deletePlanetById_shouldDeleteWhenCollectionVersionFails() {
+		final var planetId = getRandomString();
+		final var planet = newPlanet(new ObjectId().toHexString());
+
+		when(planetRepositoryMock.findByUuid(planetId)).thenReturn(Mono.just(planet));
+		when(planetRepositoryMock.delete(planet)).thenReturn(Mono.empty());
+		when(planetRepositoryMock.incrementCollectionVersion()).thenReturn(
+				Mono.error(new DataAccessResourceFailureException(getRandomString())));
+
+		StepVerifier.create(planetService.deletePlanetById(planetId))
+				.verifyComplete();
+
+		verify(eventPublisherMock, times(1)).publishEvent(PlanetsDeletedEvent.of(List.of(planet)));
+	}
+
+	private PlanetSummary newPlanetSummary(String id) {
+		return new PlanetSummary(id, UUID.randomUUID()
+				.toString(), getRandomString(), getRandomString(), getRandomString(), getRandomInteger());
+	}
+
+	private Planet newPlanet(String id) {
+		return new Planet(id, UUID.randomUUID()
+				.toString(), getRandomString(), getRandomString(), getRandomString(), LocalDateTime.now(),
+				getRandomString());
+	}
+}
@@ -0,0 +1,75 @@
+package com.starwars.planets.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.starwars.planets.PlanetProperties;
+import com.starwars.planets.dto.FoundPlanetIntegration;
+import com.starwars.planets.dto.StarWarsCatalog;
+import com.starwars.planets.exception.IntegrationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+import static com.starwars.planets.model.Planet.normalizeName;
+import static com.starwars.planets.utils.TestUtils.getRandomInteger;
+import static com.starwars.planets.utils.TestUtils.getRandomString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class StarWarsCatalogRefresherTest {
+
+	@Mock
+	private PlanetProperties propertiesMock;
+
+	@Mock
+	private StarWarsIntegration starWarsIntegrationMock;
+
+	@TempDir
+	Path snapshotDir;
+
+	private StarWarsCatalogRefresher starWarsCatalogRefresher;
+
+	@BeforeEach
+	public void setUp() {
+		starWarsCatalogRefresher = new StarWarsCatalogRefresher(propertiesMock, starWarsIntegrationMock,
+				new ObjectMapper().findAndRegisterModules());
+	}
+
+	@Test
+	public void run_shouldLoadSnapshotWrittenByPreviousRefresh() {
+		final var planetName = getRandomString();
+		final var catalog = new StarWarsCatalog(
+				Map.of(normalizeName(planetName), new FoundPlanetIntegration(planetName, getRandomInteger())),
+				Instant.now());
+		when(propertiesMock.getSwApiCatalogSnapshotPath()).thenReturn(snapshotDir.resolve("catalog.json"));
+		when(starWarsIntegrationMock.fetchCatalog()).thenReturn(catalog)
+				.thenThrow(new IntegrationException("Error contacting Star Wars API"));
+
+		starWarsCatalogRefresher.refreshCatalog();
+		starWarsCatalogRefresher.run(null);
+
+		verify(starWarsIntegrationMock, times(2)).useCatalog(catalog);
+	}
+
+	@Test
+	public void refreshCatalog_shouldKeepCurrentCatalogOnError() {
+		when(starWarsIntegrationMock.fetchCatalog()).thenThrow(
+				new IntegrationException("Error contacting Star Wars API"));
+
+		starWarsCatalogRefresher.refreshCatalog();
+
+		verify(starWarsIntegrationMock, times(0)).useCatalog(any());
+		assertEquals(0, snapshotDir.toFile()
+				.list().length);
+	}
+}
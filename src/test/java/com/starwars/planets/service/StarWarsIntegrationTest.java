@@ -1,41 +1,90 @@
 package com.starwars.planets.service;
 
+import com.starwars.planets.PlanetProperties;
 import com.starwars.planets.dto.FoundPlanetIntegration;
+import com.starwars.planets.dto.StarWarsCatalog;
 import com.starwars.planets.exception.IntegrationException;
 import com.starwars.planets.service.client.StarWarsApiClient;
 import com.starwars.planets.service.client.response.SwClientFindPlanet;
 import com.starwars.planets.service.client.response.SwClientFindPlanetResult;
+import com.starwars.planets.service.client.response.SwClientPlanetPage;
 import feign.FeignException;
 import feign.Request;
+import feign.RetryableException;
 import feign.Util;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.starwars.planets.model.Planet.normalizeName;
+import static com.starwars.planets.service.StarWarsApiResilience.SW_API_INSTANCE;
+import static com.starwars.planets.service.StarWarsIntegration.SEARCH_OPERATION;
+import static com.starwars.planets.service.StarWarsIntegration.SW_API_REQUESTS_METRIC;
+import static com.starwars.planets.service.StarWarsIntegration.SW_API_RESULTS_METRIC;
+import static com.starwars.planets.utils.TestUtils.getRandomInteger;
 import static com.starwars.planets.utils.TestUtils.getRandomString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 
 @ExtendWith(MockitoExtension.class)
 public class StarWarsIntegrationTest {
 
+	@Mock
+	private PlanetProperties propertiesMock;
+
 	@Mock
 	private StarWarsApiClient starWarsApiClientMock;
 
-	@InjectMocks
+	private SimpleMeterRegistry meterRegistry;
+
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+
 	private StarWarsIntegration starWarsIntegration;
 
+	@BeforeEach
+	public void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+		final var retryRegistry = RetryRegistry.of(RetryConfig.custom()
+				.maxAttempts(2)
+				.waitDuration(Duration.ofMillis(1))
+				.retryExceptions(FeignException.FeignServerException.class, RetryableException.class)
+				.build());
+		starWarsIntegration = new StarWarsIntegration(propertiesMock, starWarsApiClientMock, Runnable::run,
+				new StarWarsApiResilience(BulkheadRegistry.ofDefaults(), circuitBreakerRegistry, retryRegistry),
+				meterRegistry);
+	}
+
 	@Test
 	public void findOnePlanetByName_shouldFoundPlanetInformation() {
 		final var planetName = getRandomString();
@@ -144,4 +193,282 @@ public class StarWarsIntegrationTest {
 
 		verify(starWarsApiClientMock, times(1)).findPlanetByName(planetName);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void findOnePlanetByName_shouldRetryServerErrors() {
+		final var planetName = getRandomString();
+		final var foundFilms = Set.of(getRandomString());
+		final var request = Request.create(Request.HttpMethod.GET, "/api", Collections.emptyMap(), null, Util.UTF_8, null);
+		final var swClientFindPlanet = new SwClientFindPlanet(1,
+				Set.of(new SwClientFindPlanetResult(planetName, foundFilms)));
+
+		when(starWarsApiClientMock.findPlanetByName(planetName)).thenThrow(
+						new FeignException.InternalServerError(INTERNAL_SERVER_ERROR.toString(), request,
+								INTERNAL_SERVER_ERROR.toString()
+										.getBytes()))
+				.thenReturn(ResponseEntity.ok()
+						.body(swClientFindPlanet));
+
+		final var result = starWarsIntegration.findOnePlanetByName(planetName);
+
+		assertEquals(Optional.of(new FoundPlanetIntegration(planetName, foundFilms.size())), result);
+
+		verify(starWarsApiClientMock, times(2)).findPlanetByName(planetName);
+	}
+
+	@Test
+	public void findOnePlanetByName_shouldNotCallApiWhenCircuitIsOpen() {
+		final var planetName = getRandomString();
+		circuitBreakerRegistry.circuitBreaker(SW_API_INSTANCE)
+				.transitionToOpenState();
+
+		final var assertThrows = assertThrows(IntegrationException.class,
+				() -> starWarsIntegration.findOnePlanetByName(planetName));
+
+		assertEquals("Star Wars API is unavailable", assertThrows.getMessage());
+
+		verify(starWarsApiClientMock, times(0)).findPlanetByName(planetName);
+	}
+
+	@Test
+	public void findOnePlanetByName_shouldRecordRequestMetrics() {
+		final var planetName = getRandomString();
+		final var swClientFindPlanet = new SwClientFindPlanet(2,
+				Set.of(new SwClientFindPlanetResult(planetName, Set.of(getRandomString())),
+						new SwClientFindPlanetResult(getRandomString(), Set.of(getRandomString()))));
+
+		when(starWarsApiClientMock.findPlanetByName(planetName)).thenReturn(ResponseEntity.ok()
+				.body(swClientFindPlanet));
+
+		starWarsIntegration.findOnePlanetByName(planetName);
+
+		assertEquals(1, meterRegistry.get(SW_API_REQUESTS_METRIC)
+				.tags("operation", SEARCH_OPERATION, "status", "200", "exception", "None")
+				.timer()
+				.count());
+		assertEquals(2, meterRegistry.get(SW_API_RESULTS_METRIC)
+				.tags("operation", SEARCH_OPERATION)
+				.summary()
+				.totalAmount());
+	}
+
+	@Test
+	public void findOnePlanetByName_shouldRecordFailedRequestMetrics() {
+		final var planetName = getRandomString();
+		final var request = Request.create(Request.HttpMethod.GET, "/api", Collections.emptyMap(), null, Util.UTF_8, null);
+		when(starWarsApiClientMock.findPlanetByName(planetName)).thenThrow(
+				new FeignException.BadRequest(BAD_REQUEST.toString(), request, BAD_REQUEST.toString()
+						.getBytes()));
+
+		assertThrows(IntegrationException.class, () -> starWarsIntegration.findOnePlanetByName(planetName));
+
+		assertEquals(1, meterRegistry.get(SW_API_REQUESTS_METRIC)
+				.tags("operation", SEARCH_OPERATION, "status", String.valueOf(BAD_REQUEST.value()), "exception",
+						"BadRequest")
+				.timer()
+				.count());
+	}
+
+	@Test
+	public void findPlanetsByNames_shouldWalkPagesUntilAllNamesAreFound() {
+		final var planetName = "tatooine" + getRandomString();
+		final var secondPlanetName = getRandomString();
+		final var foundFilms = Set.of(getRandomString(), getRandomString());
+		final var firstPage = new SwClientPlanetPage(3, "next",
+				Set.of(new SwClientFindPlanetResult(planetName.toUpperCase(), foundFilms),
+						new SwClientFindPlanetResult(getRandomString(), Collections.emptySet())));
+		final var secondPage = new SwClientPlanetPage(3, "next",
+				Set.of(new SwClientFindPlanetResult(secondPlanetName, Collections.emptySet())));
+
+		when(propertiesMock.getSwApiMaxPages()).thenReturn(10);
+		when(starWarsApiClientMock.findPlanetsPage(1)).thenReturn(ResponseEntity.ok()
+				.body(firstPage));
+		when(starWarsApiClientMock.findPlanetsPage(2)).thenReturn(ResponseEntity.ok()
+				.body(secondPage));
+
+		final var result = starWarsIntegration.findPlanetsByNames(List.of(planetName, secondPlanetName, planetName));
+
+		assertEquals(2, result.size());
+		assertEquals(new FoundPlanetIntegration(planetName.toUpperCase(), foundFilms.size()), result.get(planetName));
+		assertEquals(new FoundPlanetIntegration(secondPlanetName, 0), result.get(secondPlanetName));
+
+		verify(starWarsApiClientMock, times(2)).findPlanetsPage(anyInt());
+		verify(starWarsApiClientMock, times(0)).findPlanetByName(anyString());
+	}
+
+	@Test
+	public void findPlanetsByNames_shouldSkipRemainingPagesWhenAllNamesAreFound() {
+		final var planetName = getRandomString();
+		final var firstPage = new SwClientPlanetPage(30, "next",
+				Set.of(new SwClientFindPlanetResult(getRandomString(), Collections.emptySet())));
+		final var secondPage = new SwClientPlanetPage(30, "next",
+				Set.of(new SwClientFindPlanetResult(planetName, Collections.emptySet())));
+
+		when(propertiesMock.getSwApiMaxPages()).thenReturn(10);
+		when(starWarsApiClientMock.findPlanetsPage(1)).thenReturn(ResponseEntity.ok()
+				.body(firstPage));
+		when(starWarsApiClientMock.findPlanetsPage(2)).thenReturn(ResponseEntity.ok()
+				.body(secondPage));
+
+		final var result = starWarsIntegration.findPlanetsByNames(Set.of(planetName));
+
+		assertEquals(new FoundPlanetIntegration(planetName, 0), result.get(planetName));
+
+		verify(starWarsApiClientMock, times(2)).findPlanetsPage(anyInt());
+	}
+
+	@Test
+	public void findPlanetsByNames_shouldNotFanOutWhenFirstPageHasAllNames() {
+		final var planetName = getRandomString();
+		final var firstPage = new SwClientPlanetPage(30, "next",
+				Set.of(new SwClientFindPlanetResult(planetName, Collections.emptySet())));
+
+		when(starWarsApiClientMock.findPlanetsPage(1)).thenReturn(ResponseEntity.ok()
+				.body(firstPage));
+
+		final var result = starWarsIntegration.findPlanetsByNames(Set.of(planetName));
+
+		assertEquals(1, result.size());
+
+		verify(starWarsApiClientMock, times(1)).findPlanetsPage(anyInt());
+	}
+
+	@Test
+	public void findPlanetsByNames_shouldReturnNamesFoundOnConcurrentPages() throws InterruptedException {
+		final var pageSize = 3;
+		final var pages = 10;
+		final var planetNames = IntStream.rangeClosed(2, pages)
+				.mapToObj(x -> getRandomString())
+				.collect(Collectors.toList());
+		final var executor = Executors.newFixedThreadPool(4);
+
+		when(propertiesMock.getSwApiMaxPages()).thenReturn(pages);
+		when(starWarsApiClientMock.findPlanetsPage(anyInt())).thenAnswer(x -> {
+			final int page = x.getArgument(0);
+			final var results = new HashSet<SwClientFindPlanetResult>();
+			results.add(new SwClientFindPlanetResult(page == 1 ? getRandomString() : planetNames.get(page - 2),
+					Collections.emptySet()));
+			while (results.size() < pageSize) {
+				results.add(new SwClientFindPlanetResult(getRandomString(), Collections.emptySet()));
+			}
+			return ResponseEntity.ok()
+					.body(new SwClientPlanetPage(pages * pageSize, page < pages ? "next" : null, results));
+		});
+
+		try {
+			final var concurrentIntegration = new StarWarsIntegration(propertiesMock, starWarsApiClientMock, executor,
+					new StarWarsApiResilience(BulkheadRegistry.ofDefaults(), circuitBreakerRegistry,
+							RetryRegistry.ofDefaults()), meterRegistry);
+
+			for (var i = 0; i < 50; i++) {
+				final var result = concurrentIntegration.findPlanetsByNames(planetNames);
+
+				assertEquals(planetNames.size(), result.size());
+				planetNames.forEach(x -> assertTrue(result.containsKey(normalizeName(x))));
+			}
+		} finally {
+			executor.shutdownNow();
+			assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	public void findPlanetsByNames_shouldStopOnLastPage() {
+		final var planetName = getRandomString();
+		final var lastPage = new SwClientPlanetPage(1, null,
+				Set.of(new SwClientFindPlanetResult(getRandomString(), Collections.emptySet())));
+
+		when(propertiesMock.getSwApiMaxPages()).thenReturn(10);
+		when(starWarsApiClientMock.findPlanetsPage(1)).thenReturn(ResponseEntity.ok()
+				.body(lastPage));
+
+		final var result = starWarsIntegration.findPlanetsByNames(Set.of(planetName));
+
+		assertTrue(result.isEmpty());
+
+		verify(starWarsApiClientMock, times(1)).findPlanetsPage(anyInt());
+	}
+
+	@Test
+	public void findPlanetsByNames_shouldNotCallApiWithoutNames() {
+		final var result = starWarsIntegration.findPlanetsByNames(Collections.emptySet());
+
+		assertTrue(result.isEmpty());
+
+		verify(starWarsApiClientMock, times(0)).findPlanetsPage(anyInt());
+	}
+
+	@Test
+	public void findPlanetsByNames_shouldReturnFeignExceptionOnCall() {
+		final var planetName = getRandomString();
+		final var request = Request.create(Request.HttpMethod.GET, "/api", Collections.emptyMap(), null, Util.UTF_8, null);
+		when(propertiesMock.getSwApiMaxPages()).thenReturn(10);
+		when(starWarsApiClientMock.findPlanetsPage(1)).thenThrow(
+				new FeignException.BadRequest(BAD_REQUEST.toString(), request, BAD_REQUEST.toString()
+						.getBytes()));
+
+		final var assertThrows = assertThrows(IntegrationException.class,
+				() -> starWarsIntegration.findPlanetsByNames(Set.of(planetName)));
+
+		assertEquals("Error contacting Star Wars API", assertThrows.getMessage());
+	}
+
+	@Test
+	public void findPlanetsByNames_shouldNotWalkBeyondMaxPages() {
+		final var planetName = getRandomString();
+		final var firstPage = new SwClientPlanetPage(30, "next",
+				Set.of(new SwClientFindPlanetResult(getRandomString(), Collections.emptySet())));
+		final var otherPage = new SwClientPlanetPage(30, "next", Collections.emptySet());
+
+		when(propertiesMock.getSwApiMaxPages()).thenReturn(3);
+		when(starWarsApiClientMock.findPlanetsPage(anyInt())).thenAnswer(x -> ResponseEntity.ok()
+				.body(x.<Integer>getArgument(0) == 1 ? firstPage : otherPage));
+
+		final var result = starWarsIntegration.findPlanetsByNames(Set.of(planetName));
+
+		assertTrue(result.isEmpty());
+
+		verify(starWarsApiClientMock, times(3)).findPlanetsPage(anyInt());
+	}
+
+	@Test
+	public void fetchCatalog_shouldLoadAllPages() {
+		final var planetName = getRandomString();
+		final var secondPlanetName = getRandomString();
+		final var foundFilms = Set.of(getRandomString(), getRandomString());
+		final var firstPage = new SwClientPlanetPage(2, "next",
+				Set.of(new SwClientFindPlanetResult(planetName.toUpperCase(), foundFilms)));
+		final var secondPage = new SwClientPlanetPage(2, null,
+				Set.of(new SwClientFindPlanetResult(secondPlanetName, Collections.emptySet())));
+
+		when(starWarsApiClientMock.findPlanetsPage(1)).thenReturn(ResponseEntity.ok()
+				.body(firstPage));
+		when(starWarsApiClientMock.findPlanetsPage(2)).thenReturn(ResponseEntity.ok()
+				.body(secondPage));
+
+		final var result = starWarsIntegration.fetchCatalog();
+
+		assertEquals(2, result.planets()
+				.size());
+		assertEquals(Optional.of(new FoundPlanetIntegration(planetName.toUpperCase(), foundFilms.size())),
+				result.find(planetName));
+		assertEquals(Optional.of(new FoundPlanetIntegration(secondPlanetName, 0)), result.find(secondPlanetName));
+
+		verify(starWarsApiClientMock, times(2)).findPlanetsPage(anyInt());
+	}
+
+	@Test
+	public void findOnePlanetByName_shouldAnswerFromCatalog() {
+		final var planetName = getRandomString();
+		final var foundPlanetIntegration = new FoundPlanetIntegration(planetName, getRandomInteger());
+		starWarsIntegration.useCatalog(new StarWarsCatalog(Map.of(normalizeName(planetName), foundPlanetIntegration),
+				Instant.now()));
+
+		assertEquals(Optional.of(foundPlanetIntegration), starWarsIntegration.findOnePlanetByName(planetName));
+		assertEquals(Optional.empty(), starWarsIntegration.findOnePlanetByName(getRandomString()));
+		assertEquals(Map.of(normalizeName(planetName), foundPlanetIntegration),
+				starWarsIntegration.findPlanetsByNames(Set.of(planetName, getRandomString())));
+
+		verifyNoInteractions(starWarsApiClientMock);
+	}
+}